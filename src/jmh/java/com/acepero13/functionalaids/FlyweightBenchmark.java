@@ -0,0 +1,62 @@
+package com.acepero13.functionalaids;
+
+import com.acepero13.functionalaids.either.Either;
+import com.acepero13.functionalaids.try2.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating successes and rights of values with a canonical instance (booleans, null, small integers) with
+ * values that still need a new instance. The gc profiler shows the difference in allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlyweightBenchmark {
+
+    private Boolean flag = Boolean.TRUE;
+    private Integer small = 42;
+    private Integer large = 4242;
+
+    @Benchmark
+    public Try<Boolean> successOfBoolean() {
+        return Try.success(flag);
+    }
+
+    @Benchmark
+    public Try<Integer> successOfSmallInteger() {
+        return Try.success(small);
+    }
+
+    @Benchmark
+    public Try<Integer> successOfLargeInteger() {
+        return Try.success(large);
+    }
+
+    @Benchmark
+    public Try<Void> unit() {
+        return Try.unit();
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightOfSmallInteger() {
+        return Either.right(small);
+    }
+
+    @Benchmark
+    public Either<String, Integer> rightOfLargeInteger() {
+        return Either.right(large);
+    }
+}
@@ -0,0 +1,62 @@
+package com.acepero13.functionalaids;
+
+import com.acepero13.functionalaids.either.Either;
+import com.acepero13.functionalaids.try2.Try;
+import com.acepero13.functionalaids.tuple.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the most common operations on every available core, so the numbers can be compared with the single threaded
+ * benchmarks to spot contention or allocation pressure that only shows up under load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ScalingBenchmark {
+
+    private final Try<Integer> success = Try.success(42);
+    private final Either<String, Integer> right = Either.right(42);
+
+    private String valid = "42";
+    private String invalid = "forty-two";
+
+    @Benchmark
+    public Try<Integer> tryOfSuccess() {
+        return Try.of(() -> Integer.parseInt(valid));
+    }
+
+    @Benchmark
+    public Try<Integer> tryOfFailure() {
+        return Try.of(() -> Integer.parseInt(invalid));
+    }
+
+    @Benchmark
+    public Try<Integer> tryMap() {
+        return success.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherMap() {
+        return right.map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Tuple2<Integer, Integer> tupleCreate() {
+        return Tuple2.of(1, 2);
+    }
+}
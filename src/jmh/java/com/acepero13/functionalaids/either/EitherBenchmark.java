@@ -0,0 +1,100 @@
+package com.acepero13.functionalaids.either;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the hot paths of {@link Either}, compared against {@link Optional}.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports the allocation rate of each benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EitherBenchmark {
+
+    private final Either<String, Integer> right = Either.right(42);
+    private final Either<String, Integer> left = Either.left(() -> "error");
+    private final Either<String, Integer> eagerLeft = Either.left("error");
+
+    @Benchmark
+    public Either<String, Integer> mapRight() {
+        return right.map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1);
+    }
+
+    @Benchmark
+    public Either<String, Integer> mapLeft() {
+        return left.map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> mapOptional() {
+        return Optional.of(42)
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1);
+    }
+
+    @Benchmark
+    public Either<String, Integer> flatMapRight() {
+        return right.flatMap(i -> Either.right(i + 1))
+                .flatMap(i -> Either.right(i * 2));
+    }
+
+    @Benchmark
+    public Integer foldRight() {
+        return right.fold(String::length, i -> i + 1);
+    }
+
+    @Benchmark
+    public Integer foldLeft() {
+        return left.fold(String::length, i -> i + 1);
+    }
+
+    @Benchmark
+    public Integer foldEagerLeft() {
+        return eagerLeft.fold(String::length, i -> i + 1);
+    }
+
+    @Benchmark
+    public Either<String, Integer> flatMapLeft() {
+        return left.flatMap(i -> Either.right(i + 1))
+                .flatMap(i -> Either.right(i * 2));
+    }
+
+    @Benchmark
+    public Either<String, Integer> filterLeft() {
+        return left.filterOrElse(i -> i > 0, () -> 0)
+                .filterOrElse(i -> i < 100, () -> 100);
+    }
+
+    /**
+     * A long pipeline over a failed input. Left propagates as itself, so the gc profiler should report no allocation.
+     */
+    @Benchmark
+    public Either<String, Integer> longChainLeft() {
+        Either<String, Integer> result = left;
+        for (int i = 0; i < 16; i++) {
+            result = result.map(v -> v + 1)
+                    .filterOrElse(v -> v > 0, () -> 1)
+                    .flatMap(Either::right);
+        }
+        return result;
+    }
+}
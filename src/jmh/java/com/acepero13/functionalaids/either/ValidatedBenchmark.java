@@ -0,0 +1,60 @@
+package com.acepero13.functionalaids.either;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Validates a message with a handful of independent checks, once when all of them pass and once when all of them
+ * fail, compared with stopping at the first error with {@link Either}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatedBenchmark {
+
+    private final List<Function<String, Validated<String, ?>>> checks = Arrays.asList(
+            s -> s.length() < 64 ? Validated.valid(s) : Validated.invalid("too long"),
+            s -> s.indexOf('@') > 0 ? Validated.valid(s) : Validated.invalid("missing @"),
+            s -> s.endsWith(".com") ? Validated.valid(s) : Validated.invalid("unknown domain"),
+            s -> s.trim().equals(s) ? Validated.valid(s) : Validated.invalid("surrounding spaces"));
+
+    private String valid = "someone@example.com";
+    private String invalid = " someone.example.org ";
+
+    @Benchmark
+    public Validated<String, String> validateValid() {
+        return Validated.validate(valid, checks);
+    }
+
+    @Benchmark
+    public Validated<String, String> validateInvalid() {
+        return Validated.validate(invalid, checks);
+    }
+
+    @Benchmark
+    public int validateInvalidAndCountErrors() {
+        return Validated.validate(invalid, checks).errorCount();
+    }
+
+    @Benchmark
+    public Either<String, String> eitherFirstError() {
+        return Either.<String, String>right(invalid)
+                .flatMap(s -> s.length() < 64 ? Either.right(s) : Either.left(() -> "too long"))
+                .flatMap(s -> s.indexOf('@') > 0 ? Either.right(s) : Either.left(() -> "missing @"));
+    }
+}
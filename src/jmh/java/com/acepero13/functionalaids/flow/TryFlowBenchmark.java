@@ -0,0 +1,111 @@
+package com.acepero13.functionalaids.flow;
+
+import com.acepero13.functionalaids.try2.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes a range of elements through {@link TryFlow#map} and {@link TryFlow#mapOrDeadLetter} with a synchronous
+ * publisher, to measure the cost of the queue and the drain loop per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryFlowBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        Processor<Integer, Try<Integer>> processor = TryFlow.map(i -> i + 1);
+        run(processor, blackhole);
+    }
+
+    @Benchmark
+    public void mapOrDeadLetter(Blackhole blackhole) {
+        Processor<Integer, Integer> processor = TryFlow.mapOrDeadLetter(i -> 100 / (i % 10),
+                (item, error) -> blackhole.consume(item));
+        run(processor, blackhole);
+    }
+
+    private <R> void run(Processor<Integer, R> processor, Blackhole blackhole) {
+        processor.subscribe(new Subscriber<R>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(R item) {
+                blackhole.consume(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                blackhole.consume(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                // Nothing to do
+            }
+        });
+        new RangePublisher(size).subscribe(processor);
+    }
+
+    private static final class RangePublisher implements Publisher<Integer>, Subscription {
+        private final int size;
+        private Subscriber<? super Integer> subscriber;
+        private long demand;
+        private int next;
+        private boolean emitting;
+
+        private RangePublisher(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            demand += n;
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            while (demand > 0 && next < size) {
+                demand--;
+                subscriber.onNext(next++);
+            }
+            if (next == size) {
+                next++;
+                subscriber.onComplete();
+            }
+            emitting = false;
+        }
+
+        @Override
+        public void cancel() {
+            next = size + 1;
+        }
+    }
+}
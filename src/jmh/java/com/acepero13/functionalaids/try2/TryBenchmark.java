@@ -0,0 +1,111 @@
+package com.acepero13.functionalaids.try2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the hot paths of {@link Try}, compared against {@link Optional} and a hand-written try/catch.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports the allocation rate of each benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBenchmark {
+
+    private String valid = "42";
+    private String invalid = "forty-two";
+
+    private final Try<Integer> success = Try.success(42);
+    private final Try<Integer> failure = Try.failure(() -> new IllegalStateException("error"));
+
+    @Benchmark
+    public Try<Integer> ofSuccess() {
+        return Try.of(() -> Integer.parseInt(valid));
+    }
+
+    @Benchmark
+    public Try<Integer> ofFailure() {
+        return Try.of(() -> Integer.parseInt(invalid));
+    }
+
+    @Benchmark
+    public Try<Integer> ofNamedSuccessWithMetricsDisabled() {
+        return Try.of("parse", () -> Integer.parseInt(valid));
+    }
+
+    @Benchmark
+    public Integer handWrittenTryCatchSuccess() {
+        try {
+            return Integer.parseInt(valid);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Integer handWrittenTryCatchFailure() {
+        try {
+            return Integer.parseInt(invalid);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Try<Integer> mapSuccess() {
+        return success.map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1);
+    }
+
+    @Benchmark
+    public Try<Integer> mapFailure() {
+        return failure.map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> mapOptional() {
+        return Optional.of(42)
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .map(i -> i - 1);
+    }
+
+    @Benchmark
+    public Try<Integer> flatMapSuccess() {
+        return success.flatMap(i -> Try.success(i + 1))
+                .flatMap(i -> Try.success(i * 2));
+    }
+
+    @Benchmark
+    public Optional<Integer> flatMapOptional() {
+        return Optional.of(42)
+                .flatMap(i -> Optional.of(i + 1))
+                .flatMap(i -> Optional.of(i * 2));
+    }
+
+    @Benchmark
+    public Integer foldSuccess() {
+        return success.fold(t -> -1, i -> i + 1);
+    }
+
+    @Benchmark
+    public Integer foldFailure() {
+        return failure.fold(t -> -1, i -> i + 1);
+    }
+}
@@ -0,0 +1,45 @@
+package com.acepero13.functionalaids.try2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a shared {@link TryCache} from all the cores, once with every key cached and once with twice as many keys as
+ * the cache holds, so that misses and evictions are part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class TryCacheBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final TryCache<Integer, String> cache = TryCache.memoize(key -> Try.of(() -> Integer.toHexString(key)),
+            SIZE, Duration.ofHours(1), Duration.ofSeconds(1));
+
+    @Benchmark
+    public Try<String> hit() {
+        return cache.apply(ThreadLocalRandom.current().nextInt(SIZE / 2));
+    }
+
+    @Benchmark
+    public Try<String> churn() {
+        return cache.apply(ThreadLocalRandom.current().nextInt(2 * SIZE));
+    }
+}
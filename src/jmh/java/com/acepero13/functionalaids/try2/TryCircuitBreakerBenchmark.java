@@ -0,0 +1,54 @@
+package com.acepero13.functionalaids.try2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares one {@link TryCircuitBreaker} between all the cores, to check it does not become a contention point compared
+ * with calling {@link Try#of} directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class TryCircuitBreakerBenchmark {
+
+    private final TryCircuitBreaker closed = TryCircuitBreaker.of(0.5, 100, Duration.ofSeconds(10), Duration.ofSeconds(5));
+    private final TryCircuitBreaker open = TryCircuitBreaker.of(0.5, 1, Duration.ofSeconds(10), Duration.ofHours(1));
+
+    private String valid = "42";
+    private String invalid = "forty-two";
+
+    public TryCircuitBreakerBenchmark() {
+        open.of(() -> Integer.parseInt(invalid));
+    }
+
+    @Benchmark
+    public Try<Integer> withoutBreaker() {
+        return Try.of(() -> Integer.parseInt(valid));
+    }
+
+    @Benchmark
+    public Try<Integer> closedBreaker() {
+        return closed.of(() -> Integer.parseInt(valid));
+    }
+
+    @Benchmark
+    public Try<Integer> openBreaker() {
+        return open.of(() -> Integer.parseInt(valid));
+    }
+}
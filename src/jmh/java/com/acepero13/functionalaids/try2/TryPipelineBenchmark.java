@@ -0,0 +1,74 @@
+package com.acepero13.functionalaids.try2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a ten stage chain of {@link Try} calls with the same stages fused in a {@link TryPipeline}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryPipelineBenchmark {
+
+    private final TryPipeline<Integer, Integer> pipeline = TryPipeline.<Integer>start()
+            .map(i -> i + 1)
+            .map(i -> i * 2)
+            .filter(i -> i > 0)
+            .map(i -> i - 1)
+            .flatMap(i -> Try.success(i + 3))
+            .map(i -> i / 2)
+            .filter(i -> i < Integer.MAX_VALUE)
+            .map(i -> i + 7)
+            .map(i -> i * 3)
+            .map(i -> i - 5);
+
+    private Integer input = 42;
+    private Integer rejected = -42;
+
+    @Benchmark
+    public Try<Integer> chained() {
+        return chain(input);
+    }
+
+    @Benchmark
+    public Try<Integer> fused() {
+        return pipeline.apply(input);
+    }
+
+    @Benchmark
+    public Try<Integer> chainedRejected() {
+        return chain(rejected);
+    }
+
+    @Benchmark
+    public Try<Integer> fusedRejected() {
+        return pipeline.apply(rejected);
+    }
+
+    private static Try<Integer> chain(Integer value) {
+        return Try.success(value)
+                .map(i -> i + 1)
+                .map(i -> i * 2)
+                .filter(i -> i > 0)
+                .map(i -> i - 1)
+                .flatMap(i -> Try.success(i + 3))
+                .map(i -> i / 2)
+                .filter(i -> i < Integer.MAX_VALUE)
+                .map(i -> i + 7)
+                .map(i -> i * 3)
+                .map(i -> i - 5);
+    }
+}
@@ -0,0 +1,68 @@
+package com.acepero13.functionalaids.try2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares {@link Try#traverse} and {@link Try#parallelTraverse} with mapping a stream to Try and collecting it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryTraverseBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private List<String> values;
+
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, size).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
+    private static Try<Integer> parse(String value) {
+        return Try.of(() -> Integer.parseInt(value));
+    }
+
+    @Benchmark
+    public Try<List<Integer>> traverse() {
+        return Try.traverse(values, TryTraverseBenchmark::parse);
+    }
+
+    @Benchmark
+    public Try<List<Integer>> parallelTraverse() {
+        return Try.parallelTraverse(values, TryTraverseBenchmark::parse);
+    }
+
+    @Benchmark
+    public Try<List<Integer>> streamSequence() {
+        return values.stream()
+                .map(TryTraverseBenchmark::parse)
+                .collect(TryCollectors.sequence());
+    }
+
+    @Benchmark
+    public Try<List<Integer>> parallelStreamSequence() {
+        return values.parallelStream()
+                .map(TryTraverseBenchmark::parse)
+                .collect(TryCollectors.sequence());
+    }
+}
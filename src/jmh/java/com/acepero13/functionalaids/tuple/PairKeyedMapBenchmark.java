@@ -0,0 +1,80 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up composite keys in {@link PairKeyedMap} and {@link ConcurrentPairKeyedMap}, compared with maps keyed by
+ * {@link Tuple2}, which allocate a tuple per lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairKeyedMapBenchmark {
+
+    private static final int SIZE = 1 << 16;
+
+    private final String[] currencies = {"EUR", "USD", "GBP", "JPY", "CHF", "CAD", "AUD", "SEK"};
+    private final PairKeyedMap<String, Integer, Integer> pairKeyed = PairKeyedMap.create(SIZE);
+    private final ConcurrentPairKeyedMap<String, Integer, Integer> concurrentPairKeyed =
+            ConcurrentPairKeyedMap.create(SIZE, 16);
+    private final Map<Tuple2<String, Integer>, Integer> tupleKeyed = new HashMap<>();
+    private final Map<Tuple2<String, Integer>, Integer> concurrentTupleKeyed = new ConcurrentHashMap<>();
+    private int next;
+
+    @Setup
+    public void fill() {
+        for (int i = 0; i < SIZE; i++) {
+            String currency = currencies[i & 7];
+            pairKeyed.put(currency, i, i);
+            concurrentPairKeyed.put(currency, i, i);
+            tupleKeyed.put(Tuple2.of(currency, i), i);
+            concurrentTupleKeyed.put(Tuple2.of(currency, i), i);
+        }
+    }
+
+    private int nextKey() {
+        next = (next + 7919) & (SIZE - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Integer pairKeyedGet() {
+        int key = nextKey();
+        return pairKeyed.get(currencies[key & 7], key);
+    }
+
+    @Benchmark
+    public Integer tupleKeyedGet() {
+        int key = nextKey();
+        return tupleKeyed.get(Tuple2.of(currencies[key & 7], key));
+    }
+
+    @Benchmark
+    public Integer concurrentPairKeyedGet() {
+        int key = nextKey();
+        return concurrentPairKeyed.get(currencies[key & 7], key);
+    }
+
+    @Benchmark
+    public Integer concurrentTupleKeyedGet() {
+        int key = nextKey();
+        return concurrentTupleKeyed.get(Tuple2.of(currencies[key & 7], key));
+    }
+}
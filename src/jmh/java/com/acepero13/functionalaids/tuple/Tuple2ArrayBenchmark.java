@@ -0,0 +1,90 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorts and scans pairs stored as {@link Tuple2Array} and {@link IntIntTupleArray}, compared with a list of
+ * {@link Tuple2}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Tuple2ArrayBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Tuple2<Integer, Integer>> list;
+    private Tuple2Array<Integer, Integer> columns;
+    private IntIntTupleArray primitiveColumns;
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        Random random = new Random(42);
+        list = new ArrayList<>(size);
+        columns = Tuple2Array.create(size);
+        primitiveColumns = IntIntTupleArray.create(size);
+        for (int i = 0; i < size; i++) {
+            int key = random.nextInt();
+            list.add(Tuple2.of(key, i));
+            columns.add(key, i);
+            primitiveColumns.add(key, i);
+        }
+    }
+
+    @Benchmark
+    public Object sortList() {
+        list.sort(Comparator.comparing(Tuple2::first));
+        return list;
+    }
+
+    @Benchmark
+    public Object sortColumns() {
+        columns.sortByFirst(Comparator.naturalOrder());
+        return columns;
+    }
+
+    @Benchmark
+    public Object sortPrimitiveColumns() {
+        primitiveColumns.sortByFirst();
+        return primitiveColumns;
+    }
+
+    @Benchmark
+    public long scanList() {
+        long sum = 0;
+        for (Tuple2<Integer, Integer> tuple : list) {
+            sum += tuple.first() + tuple.second();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scanPrimitiveColumns() {
+        long sum = 0;
+        for (int i = 0; i < primitiveColumns.size(); i++) {
+            sum += primitiveColumns.first(i) + primitiveColumns.second(i);
+        }
+        return sum;
+    }
+}
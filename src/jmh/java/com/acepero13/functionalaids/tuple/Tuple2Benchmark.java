@@ -0,0 +1,91 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of creating and consuming {@link Tuple2} instances.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports the allocation rate of each benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Tuple2Benchmark {
+
+    private String name = "John Doe";
+    private int id = 1000;
+    private long count = 123_456_789L;
+    private Double score = 99.99;
+
+    private final Tuple2<String, Double> tuple = Tuple2.of("John Doe", 99.99);
+    private final Map<Tuple2<String, Double>, String> map = new HashMap<>();
+    private final Map<String, String> concatenated = new HashMap<>();
+
+    @Setup
+    public void fill() {
+        for (int i = 0; i < 10_000; i++) {
+            map.put(Tuple2.of("user " + i, (double) i), "value " + i);
+            concatenated.put("user " + i + "|" + (double) i, "value " + i);
+        }
+        map.put(tuple, "John");
+        concatenated.put(name + "|" + score, "John");
+    }
+
+    @Benchmark
+    public Tuple2<String, Double> create() {
+        return Tuple2.of(name, score);
+    }
+
+    @Benchmark
+    public void accessors(Blackhole bh) {
+        bh.consume(tuple.first());
+        bh.consume(tuple.second());
+    }
+
+    @Benchmark
+    public void apply(Blackhole bh) {
+        tuple.apply((first, second) -> {
+            bh.consume(first);
+            bh.consume(second);
+        });
+    }
+
+    @Benchmark
+    public String compositeKeyLookup() {
+        return map.get(Tuple2.of(name, score));
+    }
+
+    @Benchmark
+    public String concatenatedKeyLookup() {
+        return concatenated.get(name + "|" + score);
+    }
+
+    /**
+     * Compare the bytes per operation reported by the gc profiler with {@link #createPrimitive()}.
+     */
+    @Benchmark
+    public Tuple2<Integer, Long> createBoxed() {
+        return Tuple2.of(id, count);
+    }
+
+    @Benchmark
+    public IntLongTuple createPrimitive() {
+        return IntLongTuple.of(id, count);
+    }
+}
@@ -0,0 +1,79 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Zips two lists sequentially and in parallel, compared with indexing both lists, to check that the lockstep split
+ * lets parallel streams scale.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Tuple2StreamsBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Integer> left;
+    private List<Integer> right;
+
+    @Setup
+    public void fill() {
+        left = new ArrayList<>(size);
+        right = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            left.add(i);
+            right.add(size - i);
+        }
+    }
+
+    @Benchmark
+    public long indexed() {
+        return IntStream.range(0, size).mapToLong(i -> (long) left.get(i) * right.get(i)).sum();
+    }
+
+    @Benchmark
+    public long zipSequential() {
+        return Tuple2Streams.zipWith(left.stream(), right.stream(), (a, b) -> (long) a * b)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Benchmark
+    public long zipParallel() {
+        return Tuple2Streams.zipWith(left.parallelStream(), right.stream(), (a, b) -> (long) a * b)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Benchmark
+    public Tuple2<List<Integer>, List<Integer>> unzip() {
+        return Tuple2Streams.unzip(left.stream().map(i -> Tuple2.of(i, -i)));
+    }
+
+    @Benchmark
+    public Tuple2<List<Integer>, List<Integer>> unzipWithTwoPasses() {
+        List<Tuple2<Integer, Integer>> pairs = left.stream().map(i -> Tuple2.of(i, -i)).collect(Collectors.toList());
+        return Tuple2.of(pairs.stream().map(Tuple2::first).collect(Collectors.toList()),
+                pairs.stream().map(Tuple2::second).collect(Collectors.toList()));
+    }
+}
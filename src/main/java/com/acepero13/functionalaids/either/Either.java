@@ -16,12 +16,45 @@ import java.util.function.Supplier;
  */
 public interface Either<E, A> {
 
+    /**
+     * Returns a Left instance whose error is computed by <i>err</i> the first time it is needed. The error is then
+     * kept, so the supplier runs at most once.
+     *
+     * @param err supplier of the error
+     * @param <A> Type of the Right element
+     * @param <E> Type of the Left element
+     * @return Left instance
+     */
     @SuppressWarnings("unchecked")
     static <A, E> Either<E, A> left(Supplier<? extends E> err) {
         return (Either<E, A>) EitherImpl.left(err);
     }
 
+    /**
+     * Returns a Left instance holding an error which is already computed.
+     * A lambda or a {@link Supplier} argument selects {@link #left(Supplier)} instead.
+     *
+     * @param err the error
+     * @param <A> Type of the Right element
+     * @param <E> Type of the Left element
+     * @return Left instance
+     */
+    @SuppressWarnings("unchecked")
+    static <A, E> Either<E, A> left(E err) {
+        return (Either<E, A>) EitherImpl.left(err);
+    }
+
 
+    /**
+     * Returns a Right instance.
+     * Like {@link Integer#valueOf(int)}, frequently produced values (null, booleans, the empty string and integers
+     * between -128 and 127) share a canonical instance instead of allocating a new one.
+     *
+     * @param value the value to be wrapped
+     * @param <A>   Type of the Right element
+     * @param <E>   Type of the Left element
+     * @return Right instance
+     */
     @SuppressWarnings("unchecked")
     static <A, E> Either<E, A> right(A value) {
         return (Either<E, A>) EitherImpl.right(value);
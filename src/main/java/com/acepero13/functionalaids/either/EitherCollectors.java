@@ -0,0 +1,100 @@
+package com.acepero13.functionalaids.either;
+
+import com.acepero13.functionalaids.tuple.Tuple2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Collectors for streams of {@link Either}.
+ * <p>
+ * Their combiners are associative and keep the encounter order, so they give the same result on parallel streams.
+ */
+public final class EitherCollectors {
+
+    private EitherCollectors() {
+    }
+
+    /**
+     * Splits the values of the Lefts from the values of the Rights in a single pass.
+     *
+     * @param <E> Type of the Left elements
+     * @param <A> Type of the Right elements
+     * @return a collector returning the values of the Lefts first and the values of the Rights second
+     */
+    public static <E, A> Collector<Either<E, A>, ?, Tuple2<List<E>, List<A>>> partition() {
+        return Collector.of(
+                Partition<E, A>::new,
+                Partition::add,
+                Partition::combine,
+                p -> Tuple2.of(p.lefts, p.rights));
+    }
+
+    /**
+     * Turns a stream of Either into a Right of all the values, or the first Left in encounter order.
+     * Once a Left has been found the remaining elements are ignored instead of being accumulated.
+     *
+     * @param <E> Type of the Left elements
+     * @param <A> Type of the Right elements
+     * @return a collector returning a Right with all the values, or the first Left
+     */
+    public static <E, A> Collector<Either<E, A>, ?, Either<E, List<A>>> sequence() {
+        return Collector.of(
+                Sequence<E, A>::new,
+                Sequence::add,
+                Sequence::combine,
+                Sequence::result);
+    }
+
+    private static final class Partition<E, A> {
+        private final List<E> lefts = new ArrayList<>();
+        private final List<A> rights = new ArrayList<>();
+
+        private void add(Either<E, A> element) {
+            element.fold(lefts::add, rights::add);
+        }
+
+        private Partition<E, A> combine(Partition<E, A> other) {
+            lefts.addAll(other.lefts);
+            rights.addAll(other.rights);
+            return this;
+        }
+    }
+
+    private static final class Sequence<E, A> {
+        private List<A> rights = new ArrayList<>();
+        private Either<E, A> left;
+
+        private void add(Either<E, A> element) {
+            if (left != null) {
+                return;
+            }
+            if (element.isLeft()) {
+                left = element;
+                rights = null;
+            } else {
+                element.ifRight(rights::add);
+            }
+        }
+
+        private Sequence<E, A> combine(Sequence<E, A> other) {
+            if (left == null) {
+                if (other.left != null) {
+                    left = other.left;
+                    rights = null;
+                } else {
+                    rights.addAll(other.rights);
+                }
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Either<E, List<A>> result() {
+            return left != null
+                    ? (Either<E, List<A>>) (Either<E, ?>) left
+                    : Either.right(rights);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.acepero13.functionalaids.either;
 
+import com.acepero13.functionalaids.internal.CanonicalValues;
+
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -7,6 +9,11 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 final class EitherImpl {
+    /**
+     * Canonical instances of frequently produced rights, so producing them does not allocate.
+     */
+    private static final CanonicalValues<Right<?>> CANONICAL = new CanonicalValues<>(Right::new);
+
     private EitherImpl() {
     }
 
@@ -14,8 +21,14 @@ final class EitherImpl {
         return new Left<>(err);
     }
 
+    public static <E> Either<E, Object> left(E err) {
+        return new Left<>(err);
+    }
+
+    @SuppressWarnings("unchecked")
     public static <A> Either<?, A> right(A value) {
-        return new Right<>(value);
+        Right<?> cached = CANONICAL.lookup(value);
+        return cached != null ? (Either<?, A>) cached : new Right<>(value);
     }
 
     private static class Right<A> implements Either<Object, A> {
@@ -27,9 +40,10 @@ final class EitherImpl {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <B> Either<Object, B> map(Function<? super A, ? extends B> mapper) {
             Objects.requireNonNull(mapper);
-            return new Right<>(mapper.apply(value));
+            return (Either<Object, B>) right(mapper.apply(value));
         }
 
         @Override
@@ -61,8 +75,8 @@ final class EitherImpl {
         public <A1 extends A> Either<Object, A1> filterOrElse(Predicate<A> p, Supplier<A1> zero) {
             Objects.requireNonNull(p);
             return p.test(value)
-                    ? (Either<Object, A1>) new Right<>(value)
-                    : new Right<>(zero.get());
+                    ? (Either<Object, A1>) this
+                    : (Either<Object, A1>) right(zero.get());
         }
 
         @Override
@@ -97,7 +111,7 @@ final class EitherImpl {
             if (this == o) return true;
             if (!(o instanceof Right)) return false;
             Right<?> right = (Right<?>) o;
-            return value.equals(right.value);
+            return Objects.equals(value, right.value);
         }
 
         @Override
@@ -108,24 +122,51 @@ final class EitherImpl {
 
     private static class Left<E> implements Either<E, Object> {
 
+        private static final Object PENDING = new Object();
+
+        private volatile Object error;
+        private Supplier<? extends E> errSupplier;
 
-        private final Supplier<? extends E> err;
+        private Left(E error) {
+            this.error = error;
+        }
 
-        private Left(Supplier<? extends E> err) {
-            this.err = err;
+        private Left(Supplier<? extends E> errSupplier) {
+            Objects.requireNonNull(errSupplier);
+            this.error = PENDING;
+            this.errSupplier = errSupplier;
         }
 
+        /**
+         * Returns the error of this Left. A deferred error is requested from its supplier only once, even if several
+         * threads ask for it at the same time.
+         */
+        @SuppressWarnings("unchecked")
+        private E error() {
+            Object result = error;
+            if (result == PENDING) {
+                synchronized (this) {
+                    result = error;
+                    if (result == PENDING) {
+                        result = errSupplier.get();
+                        error = result;
+                        errSupplier = null;
+                    }
+                }
+            }
+            return (E) result;
+        }
 
         @Override
         @SuppressWarnings("unchecked")
         public <B> Either<E, B> map(Function<? super Object, ? extends B> mapper) {
-            return (Either<E, B>) new Left<>(err);
+            return (Either<E, B>) this;
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public <B> Either<E, B> flatMap(Function<? super Object, Either<? super E, ? extends B>> mapper) {
-            return (Either<E, B>) new Left<>(err);
+            return (Either<E, B>) this;
         }
 
         @Override
@@ -149,13 +190,13 @@ final class EitherImpl {
         @Override
         @SuppressWarnings("unchecked")
         public <A1> Either<E, A1> filterOrElse(Predicate<Object> p, Supplier<A1> zero) {
-            return (Either<E, A1>) new Left<>(err);
+            return (Either<E, A1>) this;
         }
 
         @Override
         public <C> C fold(Function<E, C> fLeft, Function<Object, C> fRight) {
             Objects.requireNonNull(fLeft);
-            return fLeft.apply(err.get());
+            return fLeft.apply(error());
         }
 
         @Override
@@ -179,17 +220,20 @@ final class EitherImpl {
         }
 
 
+        /**
+         * Two Lefts are equal if their errors are, which evaluates deferred errors.
+         */
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (!(o instanceof Left)) return false;
             Left<?> left = (Left<?>) o;
-            return Objects.equals(err, left.err);
+            return Objects.equals(error(), left.error());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(err);
+            return Objects.hashCode(error());
         }
     }
 
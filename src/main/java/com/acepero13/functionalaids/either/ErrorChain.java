@@ -0,0 +1,87 @@
+package com.acepero13.functionalaids.either;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The errors accumulated by an invalid {@link Validated}, kept as a rope: appending two chains allocates a single
+ * node, whatever their sizes, and the errors are only copied into a list when asked for.
+ * <p>
+ * Chains built one error at a time are as deep as they are long, so they are walked with an explicit stack instead of
+ * recursion.
+ *
+ * @param <E> Type of the errors
+ */
+abstract class ErrorChain<E> {
+
+    private ErrorChain() {
+    }
+
+    static <E> ErrorChain<E> of(E error) {
+        return new Leaf<>(error);
+    }
+
+    static <E> ErrorChain<E> concat(ErrorChain<E> first, ErrorChain<E> second) {
+        return new Concat<>(first, second);
+    }
+
+    abstract int size();
+
+    void forEach(Consumer<? super E> consumer) {
+        Deque<ErrorChain<E>> pending = new ArrayDeque<>();
+        ErrorChain<E> current = this;
+        while (current != null) {
+            if (current instanceof Concat) {
+                Concat<E> concat = (Concat<E>) current;
+                pending.push(concat.second);
+                current = concat.first;
+            } else {
+                consumer.accept(((Leaf<E>) current).error);
+                current = pending.poll();
+            }
+        }
+    }
+
+    List<E> toList() {
+        if (this instanceof Leaf) {
+            return Collections.singletonList(((Leaf<E>) this).error);
+        }
+        List<E> errors = new ArrayList<>(size());
+        forEach(errors::add);
+        return Collections.unmodifiableList(errors);
+    }
+
+    private static final class Leaf<E> extends ErrorChain<E> {
+        private final E error;
+
+        private Leaf(E error) {
+            this.error = error;
+        }
+
+        @Override
+        int size() {
+            return 1;
+        }
+    }
+
+    private static final class Concat<E> extends ErrorChain<E> {
+        private final ErrorChain<E> first;
+        private final ErrorChain<E> second;
+        private final int size;
+
+        private Concat(ErrorChain<E> first, ErrorChain<E> second) {
+            this.first = first;
+            this.second = second;
+            this.size = first.size() + second.size();
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+    }
+}
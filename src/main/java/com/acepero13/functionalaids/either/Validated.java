@@ -0,0 +1,214 @@
+package com.acepero13.functionalaids.either;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents either a valid value or the errors found while validating it. Unlike {@link Either}, which stops at the
+ * first Left, combining two Validated keeps the errors of both, so a single pass reports every problem.
+ * <p>
+ * Errors are appended in constant time, whatever the number already accumulated, and keep the order of the
+ * combinations.
+ *
+ * <pre>
+ *     Validated[String, User] user = validName(name)
+ *             .combine(validAge(age), User::new);
+ * </pre>
+ *
+ * @param <E> Type of the errors
+ * @param <A> Type of the valid value
+ */
+public interface Validated<E, A> {
+
+    /**
+     * Returns a valid instance.
+     *
+     * @param value the value to be wrapped
+     * @param <E>   Type of the errors
+     * @param <A>   Type of the valid value
+     * @return Valid instance
+     */
+    static <E, A> Validated<E, A> valid(A value) {
+        return ValidatedImpl.valid(value);
+    }
+
+    /**
+     * Returns an invalid instance with a single error.
+     *
+     * @param error the error
+     * @param <E>   Type of the errors
+     * @param <A>   Type of the valid value
+     * @return Invalid instance
+     */
+    static <E, A> Validated<E, A> invalid(E error) {
+        return ValidatedImpl.invalid(ErrorChain.of(error));
+    }
+
+    /**
+     * Converts a Right into a valid instance and a Left into an invalid instance with its value as single error.
+     *
+     * @param either the Either to convert
+     * @param <E>    Type of the errors
+     * @param <A>    Type of the valid value
+     * @return the corresponding Validated
+     */
+    static <E, A> Validated<E, A> fromEither(Either<E, A> either) {
+        Objects.requireNonNull(either);
+        return either.fold(Validated::invalid, Validated::valid);
+    }
+
+    /**
+     * Runs independent checks on <i>value</i>, returning it if all of them are valid or the errors of all the invalid
+     * ones, in the order of the checks.
+     *
+     * @param value  the value to be checked
+     * @param checks the checks
+     * @param <E>    Type of the errors
+     * @param <T>    Type of the value
+     * @return the value, or all the errors found
+     */
+    static <E, T> Validated<E, T> validate(T value, List<? extends Function<? super T, ? extends Validated<E, ?>>> checks) {
+        Objects.requireNonNull(checks);
+        Validated<E, T> result = valid(value);
+        for (Function<? super T, ? extends Validated<E, ?>> check : checks) {
+            result = result.and(check.apply(value));
+        }
+        return result;
+    }
+
+    /**
+     * Like {@link #validate(Object, List)}, but runs the checks in parallel on the common fork join pool. The errors
+     * keep the order of the checks. Only worth it when the checks are expensive, such as lookups or large scans.
+     *
+     * @param value  the value to be checked
+     * @param checks the checks
+     * @param <E>    Type of the errors
+     * @param <T>    Type of the value
+     * @return the value, or all the errors found
+     */
+    static <E, T> Validated<E, T> parallelValidate(T value,
+                                                   List<? extends Function<? super T, ? extends Validated<E, ?>>> checks) {
+        Objects.requireNonNull(checks);
+        Validated<E, T> initial = valid(value);
+        return checks.parallelStream()
+                .<Validated<E, T>>map(check -> initial.and(check.apply(value)))
+                .reduce(initial, Validated::and);
+    }
+
+    /**
+     * Turns a collection of Validated into a valid list of all the values, or all the errors, in iteration order.
+     *
+     * @param values the values to be combined
+     * @param <E>    Type of the errors
+     * @param <A>    Type of the valid values
+     * @return a valid list, or all the errors
+     */
+    static <E, A> Validated<E, List<A>> sequence(Collection<? extends Validated<E, ? extends A>> values) {
+        return ValidatedImpl.sequence(values);
+    }
+
+    /**
+     * The given function is applied if this is valid.
+     *
+     * @param mapper the function to be applied
+     * @param <B>    the result type of the new value after applying mapper
+     * @return The result of the given function after being applied, or this if invalid
+     */
+    <B> Validated<E, B> map(Function<? super A, ? extends B> mapper);
+
+    /**
+     * Validates further a valid value. Unlike {@link #combine}, no error is accumulated if this is invalid, since
+     * <i>mapper</i> needs a valid value to run.
+     *
+     * @param mapper The validation to apply to the valid value
+     * @param <B>    the result type of the new value after applying mapper
+     * @return the result of mapper, or this if invalid
+     */
+    <B> Validated<E, B> flatMap(Function<? super A, ? extends Validated<E, B>> mapper);
+
+    /**
+     * Combines two independent validations: if both are valid, their values are combined with <i>combiner</i>,
+     * otherwise the errors of this are followed by the errors of <i>other</i>.
+     *
+     * @param other    the other validation
+     * @param combiner the function combining both values
+     * @param <B>      Type of the other value
+     * @param <C>      Type of the combined value
+     * @return the combined value, or the errors of both
+     */
+    <B, C> Validated<E, C> combine(Validated<E, ? extends B> other, BiFunction<? super A, ? super B, ? extends C> combiner);
+
+    /**
+     * Like {@link #combine}, keeping the value of this if both are valid.
+     *
+     * @param other the other validation
+     * @return this if both are valid, or the errors of both
+     */
+    Validated<E, A> and(Validated<E, ?> other);
+
+    /**
+     * Returns true if this is valid, false otherwise.
+     *
+     * @return true if valid
+     */
+    boolean isValid();
+
+    /**
+     * Returns true if this is invalid, false otherwise.
+     *
+     * @return true if invalid
+     */
+    boolean isInvalid();
+
+    /**
+     * The errors of this, empty if this is valid.
+     *
+     * @return an unmodifiable list of the errors
+     */
+    List<E> errors();
+
+    /**
+     * Number of errors, 0 if this is valid. Does not copy the errors.
+     *
+     * @return the number of errors
+     */
+    int errorCount();
+
+    /**
+     * Executes the given side-effecting function on each error, without copying them.
+     *
+     * @param consumer the side-effect function to execute
+     */
+    void forEachError(Consumer<? super E> consumer);
+
+    /**
+     * Applies fInvalid to the errors if this is invalid or fValid to the value if this is valid.
+     *
+     * @param fInvalid function to apply if this is invalid
+     * @param fValid   function to apply if this is valid
+     * @param <C>      type of the result
+     * @return The applied value
+     */
+    <C> C fold(Function<List<E>, C> fInvalid, Function<A, C> fValid);
+
+    /**
+     * Returns the value if this is valid, or the given argument otherwise.
+     *
+     * @param <A1> Type/Subtype of the value
+     * @param or   default value in case this is invalid
+     * @return The value if valid, or otherwise
+     */
+    <A1 extends A> A1 getOrElse(Supplier<A1> or);
+
+    /**
+     * Converts this into a Right of the value, or a Left of all the errors.
+     *
+     * @return the corresponding Either
+     */
+    Either<List<E>, A> toEither();
+}
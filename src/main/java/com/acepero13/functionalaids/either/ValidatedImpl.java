@@ -0,0 +1,227 @@
+package com.acepero13.functionalaids.either;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+final class ValidatedImpl {
+
+    private ValidatedImpl() {
+    }
+
+    static <E, A> Validated<E, A> valid(A value) {
+        return new Valid<>(value);
+    }
+
+    static <E, A> Validated<E, A> invalid(ErrorChain<E> errors) {
+        return new Invalid<>(errors);
+    }
+
+    static <E, A> Validated<E, List<A>> sequence(Collection<? extends Validated<E, ? extends A>> values) {
+        Objects.requireNonNull(values);
+        List<A> valid = new ArrayList<>(values.size());
+        ErrorChain<E> errors = null;
+        for (Validated<E, ? extends A> value : values) {
+            if (value instanceof Valid) {
+                if (errors == null) {
+                    valid.add(((Valid<E, ? extends A>) value).value);
+                }
+            } else {
+                ErrorChain<E> more = ((Invalid<E, ?>) value).errors;
+                errors = errors == null ? more : ErrorChain.concat(errors, more);
+            }
+        }
+        return errors == null ? valid(Collections.unmodifiableList(valid)) : invalid(errors);
+    }
+
+    private static final class Valid<E, A> implements Validated<E, A> {
+
+        private final A value;
+
+        private Valid(A value) {
+            this.value = value;
+        }
+
+        @Override
+        public <B> Validated<E, B> map(Function<? super A, ? extends B> mapper) {
+            Objects.requireNonNull(mapper);
+            return new Valid<>(mapper.apply(value));
+        }
+
+        @Override
+        public <B> Validated<E, B> flatMap(Function<? super A, ? extends Validated<E, B>> mapper) {
+            Objects.requireNonNull(mapper);
+            return mapper.apply(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B, C> Validated<E, C> combine(Validated<E, ? extends B> other,
+                                              BiFunction<? super A, ? super B, ? extends C> combiner) {
+            Objects.requireNonNull(combiner);
+            return other instanceof Valid
+                    ? new Valid<>(combiner.apply(value, ((Valid<E, ? extends B>) other).value))
+                    : (Validated<E, C>) other;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Validated<E, A> and(Validated<E, ?> other) {
+            Objects.requireNonNull(other);
+            return other instanceof Valid ? this : (Validated<E, A>) other;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return false;
+        }
+
+        @Override
+        public List<E> errors() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public int errorCount() {
+            return 0;
+        }
+
+        @Override
+        public void forEachError(Consumer<? super E> consumer) {
+            // Do nothing
+        }
+
+        @Override
+        public <C> C fold(Function<List<E>, C> fInvalid, Function<A, C> fValid) {
+            Objects.requireNonNull(fValid);
+            return fValid.apply(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A1 extends A> A1 getOrElse(Supplier<A1> or) {
+            return (A1) value;
+        }
+
+        @Override
+        public Either<List<E>, A> toEither() {
+            return Either.right(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Valid)) return false;
+            Valid<?, ?> valid = (Valid<?, ?>) o;
+            return Objects.equals(value, valid.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value);
+        }
+    }
+
+    private static final class Invalid<E, A> implements Validated<E, A> {
+
+        private final ErrorChain<E> errors;
+
+        private Invalid(ErrorChain<E> errors) {
+            this.errors = errors;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B> Validated<E, B> map(Function<? super A, ? extends B> mapper) {
+            return (Validated<E, B>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B> Validated<E, B> flatMap(Function<? super A, ? extends Validated<E, B>> mapper) {
+            return (Validated<E, B>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B, C> Validated<E, C> combine(Validated<E, ? extends B> other,
+                                              BiFunction<? super A, ? super B, ? extends C> combiner) {
+            return (Validated<E, C>) and(other);
+        }
+
+        @Override
+        public Validated<E, A> and(Validated<E, ?> other) {
+            Objects.requireNonNull(other);
+            return other instanceof Invalid
+                    ? new Invalid<>(ErrorChain.concat(errors, ((Invalid<E, ?>) other).errors))
+                    : this;
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return true;
+        }
+
+        @Override
+        public List<E> errors() {
+            return errors.toList();
+        }
+
+        @Override
+        public int errorCount() {
+            return errors.size();
+        }
+
+        @Override
+        public void forEachError(Consumer<? super E> consumer) {
+            Objects.requireNonNull(consumer);
+            errors.forEach(consumer);
+        }
+
+        @Override
+        public <C> C fold(Function<List<E>, C> fInvalid, Function<A, C> fValid) {
+            Objects.requireNonNull(fInvalid);
+            return fInvalid.apply(errors());
+        }
+
+        @Override
+        public <A1 extends A> A1 getOrElse(Supplier<A1> or) {
+            Objects.requireNonNull(or);
+            return or.get();
+        }
+
+        @Override
+        public Either<List<E>, A> toEither() {
+            return Either.left(errors());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Invalid)) return false;
+            Invalid<?, ?> invalid = (Invalid<?, ?>) o;
+            return errors.size() == invalid.errors.size() && errors().equals(invalid.errors());
+        }
+
+        @Override
+        public int hashCode() {
+            return errors().hashCode();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.acepero13.functionalaids.flow;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Transforms each element of the upstream for a single downstream subscriber, with bounded demand.
+ * <p>
+ * Up to {@code prefetch} elements are requested in advance and buffered in a single-producer single-consumer queue.
+ * Demand is replenished in batches of three quarters of the prefetch, so the upstream sees one {@code request(n)}
+ * per batch instead of one per element. Whichever thread signals (upstream or downstream) drains the queue if no other
+ * thread is draining it; the others just leave a note that there is more work, so no lock is taken per element.
+ * <p>
+ * A transformation returning null drops the element: it still counts as consumed from the upstream, but nothing is
+ * emitted for it.
+ *
+ * @param <T> Type of the elements received
+ * @param <R> Type of the elements published
+ */
+final class MapProcessor<T, R> implements Processor<T, R>, Subscription {
+
+    private final Function<? super T, ? extends R> transform;
+    private final int prefetch;
+    private final int limit;
+    private final SpscArrayQueue<T> queue;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    private volatile Subscription upstream;
+    private volatile Subscriber<? super R> downstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private volatile boolean badRequest;
+    private int consumed;
+
+    MapProcessor(Function<? super T, ? extends R> transform, int prefetch) {
+        Objects.requireNonNull(transform);
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+        }
+        this.transform = transform;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+        this.queue = new SpscArrayQueue<>(prefetch);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        if (done) {
+            return;
+        }
+        if (!queue.offer(item)) {
+            upstream.cancel();
+            onError(new IllegalStateException("Upstream published more elements than requested"));
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        if (done || !error.compareAndSet(null, throwable)) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(Rejected.INSTANCE);
+            subscriber.onError(new IllegalStateException("Only a single subscriber is supported"));
+            return;
+        }
+        subscriber.onSubscribe(this);
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            error.set(new IllegalArgumentException("Requested a non-positive number of elements: " + n));
+            badRequest = true;
+            drain();
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        if (wip.getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Subscriber<? super R> subscriber = downstream;
+            if (subscriber != null && emit(subscriber)) {
+                return;
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Emits as many elements as requested. Returns true once the stream is over, leaving the drain loop for good.
+     */
+    private boolean emit(Subscriber<? super R> subscriber) {
+        long demand = requested.get();
+        long emitted = 0;
+        while (emitted != demand) {
+            boolean terminated = done;
+            T item = queue.poll();
+            boolean empty = item == null;
+            if (isOver(terminated, empty, subscriber)) {
+                return true;
+            }
+            if (empty) {
+                break;
+            }
+            if (++consumed == limit) {
+                consumed = 0;
+                upstream.request(limit);
+            }
+            R result;
+            try {
+                result = transform.apply(item);
+            } catch (RuntimeException e) {
+                cancel();
+                subscriber.onError(e);
+                return true;
+            }
+            if (result != null) {
+                subscriber.onNext(result);
+                emitted++;
+            }
+        }
+        if (emitted == demand && isOver(done, queue.isEmpty(), subscriber)) {
+            return true;
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+        return false;
+    }
+
+    /**
+     * Returns true, after signalling the end of the stream if needed, once nothing else has to be emitted: the
+     * downstream cancelled or made an invalid request, or the upstream terminated and every element was emitted.
+     */
+    private boolean isOver(boolean terminated, boolean empty, Subscriber<? super R> subscriber) {
+        if (cancelled) {
+            queue.clear();
+            return true;
+        }
+        if (badRequest) {
+            queue.clear();
+            terminate(subscriber);
+            return true;
+        }
+        if (terminated && empty) {
+            terminate(subscriber);
+            return true;
+        }
+        return false;
+    }
+
+    private void terminate(Subscriber<? super R> subscriber) {
+        cancelled = true;
+        Throwable throwable = error.get();
+        if (throwable != null) {
+            subscriber.onError(throwable);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private enum Rejected implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+            // Nothing will ever be published
+        }
+
+        @Override
+        public void cancel() {
+            // Nothing to cancel
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.acepero13.functionalaids.flow;
+
+/**
+ * A stage which is both a {@link Subscriber} of its upstream and a {@link Publisher} for its downstream.
+ *
+ * @param <T> Type of the elements received
+ * @param <R> Type of the elements published
+ */
+public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+}
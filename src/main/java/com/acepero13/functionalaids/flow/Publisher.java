@@ -0,0 +1,20 @@
+package com.acepero13.functionalaids.flow;
+
+/**
+ * A provider of a potentially unbounded number of elements, published according to the demand of its subscribers.
+ * <p>
+ * This and the other interfaces of this package have the same shape and contract as the Reactive Streams interfaces
+ * ({@code org.reactivestreams}) and {@code java.util.concurrent.Flow}, which keeps the library free of dependencies
+ * and usable on Java 8. Adapting to either of them only takes delegating each method.
+ *
+ * @param <T> Type of the elements
+ */
+public interface Publisher<T> {
+
+    /**
+     * Requests the publisher to start streaming elements to <i>subscriber</i>.
+     *
+     * @param subscriber the subscriber which will consume the elements
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
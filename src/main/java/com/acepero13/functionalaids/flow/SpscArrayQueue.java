@@ -0,0 +1,68 @@
+package com.acepero13.functionalaids.flow;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue for a single producer thread and a single consumer thread at a time.
+ * <p>
+ * The slots themselves tell whether they are free, so each side only reads its own index and the two never write the
+ * same memory except the slot they hand over. Elements must not be null.
+ *
+ * @param <E> Type of the elements
+ */
+final class SpscArrayQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int mask;
+    private long producerIndex;
+    private long consumerIndex;
+
+    SpscArrayQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Producer side: adds the element, or returns false if the queue is full.
+     */
+    boolean offer(E element) {
+        int index = (int) producerIndex & mask;
+        if (buffer.get(index) != null) {
+            return false;
+        }
+        buffer.lazySet(index, element);
+        producerIndex++;
+        return true;
+    }
+
+    /**
+     * Consumer side: removes the oldest element, or returns null if the queue is empty.
+     */
+    E poll() {
+        int index = (int) consumerIndex & mask;
+        E element = buffer.get(index);
+        if (element == null) {
+            return null;
+        }
+        buffer.lazySet(index, null);
+        consumerIndex++;
+        return element;
+    }
+
+    /**
+     * Consumer side: returns true if there is nothing to poll.
+     */
+    boolean isEmpty() {
+        return buffer.get((int) consumerIndex & mask) == null;
+    }
+
+    /**
+     * Consumer side: discards all the elements.
+     */
+    void clear() {
+        while (poll() != null) {
+            // Discard
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.acepero13.functionalaids.flow;
+
+/**
+ * A receiver of elements, see {@link Publisher}. No element is sent before the subscriber requests it through its
+ * {@link Subscription}.
+ *
+ * @param <T> Type of the elements
+ */
+public interface Subscriber<T> {
+
+    /**
+     * Called once, before any other method, with the subscription used to request elements.
+     *
+     * @param subscription the subscription
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Receives the next element. Never called more times than requested.
+     *
+     * @param item the element, never null
+     */
+    void onNext(T item);
+
+    /**
+     * Terminates the stream with an error. No other method is called afterwards.
+     *
+     * @param throwable the error
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Terminates the stream successfully. No other method is called afterwards.
+     */
+    void onComplete();
+}
@@ -0,0 +1,20 @@
+package com.acepero13.functionalaids.flow;
+
+/**
+ * Links a {@link Subscriber} to a {@link Publisher}, to request elements or stop receiving them.
+ */
+public interface Subscription {
+
+    /**
+     * Adds <i>n</i> elements to the demand. A non-positive <i>n</i> terminates the stream with an
+     * {@link IllegalArgumentException}.
+     *
+     * @param n the number of additional elements
+     */
+    void request(long n);
+
+    /**
+     * Stops the publisher from sending more elements. Elements already in flight may still be received.
+     */
+    void cancel();
+}
@@ -0,0 +1,116 @@
+package com.acepero13.functionalaids.flow;
+
+import com.acepero13.functionalaids.either.Either;
+import com.acepero13.functionalaids.try2.Try;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Processors evaluating a computation for each element of a stream, so the stages of a pipeline do not have to unwrap
+ * {@link Try} or {@link Either} by hand.
+ * <p>
+ * All of them have bounded demand: they request {@value #DEFAULT_PREFETCH} elements (or the given prefetch) in advance
+ * and replenish in batches, whatever the downstream requests. They support a single subscriber.
+ *
+ * <pre>
+ *     Processor[Event, Order] parse = TryFlow.mapOrDeadLetter(Order::parse, deadLetters::add);
+ *     events.subscribe(parse);
+ *     parse.subscribe(orders);
+ * </pre>
+ */
+public final class TryFlow {
+
+    /**
+     * Number of elements requested in advance when no prefetch is given.
+     */
+    public static final int DEFAULT_PREFETCH = 256;
+
+    private TryFlow() {
+    }
+
+    /**
+     * Emits the outcome of <i>mapper</i> on each element, see {@link Try#of}.
+     *
+     * @param mapper the function to apply to each element
+     * @param <T>    Type of the elements received
+     * @param <R>    Type of the results
+     * @return a processor emitting a Try per element
+     */
+    public static <T, R> Processor<T, Try<R>> map(Function<? super T, ? extends R> mapper) {
+        return map(mapper, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Like {@link #map(Function)}, requesting up to <i>prefetch</i> elements in advance.
+     *
+     * @param mapper   the function to apply to each element
+     * @param prefetch maximum number of elements requested and not yet emitted
+     * @param <T>      Type of the elements received
+     * @param <R>      Type of the results
+     * @return a processor emitting a Try per element
+     */
+    public static <T, R> Processor<T, Try<R>> map(Function<? super T, ? extends R> mapper, int prefetch) {
+        Objects.requireNonNull(mapper);
+        return new MapProcessor<>(item -> Try.of(() -> mapper.apply(item)), prefetch);
+    }
+
+    /**
+     * Emits the successful results of <i>mapper</i>, and hands each element for which it failed to
+     * <i>deadLetter</i> together with the error, in the thread emitting. A null result counts as a failure.
+     *
+     * @param mapper     the function to apply to each element
+     * @param deadLetter receives the elements which could not be mapped
+     * @param <T>        Type of the elements received
+     * @param <R>        Type of the results
+     * @return a processor emitting the successful results
+     */
+    public static <T, R> Processor<T, R> mapOrDeadLetter(Function<? super T, ? extends R> mapper,
+                                                         BiConsumer<? super T, Throwable> deadLetter) {
+        return mapOrDeadLetter(mapper, deadLetter, DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Like {@link #mapOrDeadLetter(Function, BiConsumer)}, requesting up to <i>prefetch</i> elements in advance.
+     *
+     * @param mapper     the function to apply to each element
+     * @param deadLetter receives the elements which could not be mapped
+     * @param prefetch   maximum number of elements requested and not yet emitted
+     * @param <T>        Type of the elements received
+     * @param <R>        Type of the results
+     * @return a processor emitting the successful results
+     */
+    public static <T, R> Processor<T, R> mapOrDeadLetter(Function<? super T, ? extends R> mapper,
+                                                         BiConsumer<? super T, Throwable> deadLetter, int prefetch) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(deadLetter);
+        return new MapProcessor<T, R>(item -> Try.<R>of(() -> Objects.requireNonNull(mapper.apply(item)))
+                .fold(error -> {
+                    deadLetter.accept(item, error);
+                    return null;
+                }, Function.identity()), prefetch);
+    }
+
+    /**
+     * Emits the Right results of <i>mapper</i>, and hands each element for which it returned a Left to
+     * <i>deadLetter</i> together with the Left value, in the thread emitting. A Right holding null is dropped, since
+     * streams cannot carry null elements.
+     *
+     * @param mapper     the validation to apply to each element
+     * @param deadLetter receives the elements which were rejected
+     * @param <T>        Type of the elements received
+     * @param <E>        Type of the Left values
+     * @param <R>        Type of the results
+     * @return a processor emitting the Right results
+     */
+    public static <T, E, R> Processor<T, R> rightsOrDeadLetter(Function<? super T, Either<E, R>> mapper,
+                                                               BiConsumer<? super T, ? super E> deadLetter) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(deadLetter);
+        return new MapProcessor<T, R>(item -> mapper.apply(item).fold(error -> {
+            deadLetter.accept(item, error);
+            return null;
+        }, Function.identity()), DEFAULT_PREFETCH);
+    }
+}
@@ -0,0 +1,84 @@
+package com.acepero13.functionalaids.internal;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Canonical wrappers of frequently produced values, so wrapping them does not allocate.
+ * <p>
+ * The values with a canonical wrapper are null, booleans, the empty string and integers between -128 and 127 (the
+ * same range cached by {@link Integer#valueOf(int)}). Each of them has a slot, and the wrapper for every slot is
+ * created once, when the table is built.
+ * <p>
+ * This class is shared by the implementations of the library and is not part of its API.
+ *
+ * @param <W> Type of the wrappers
+ */
+public final class CanonicalValues<W> {
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int EMPTY_STRING = 3;
+    private static final int SMALL_INTS = 4;
+    private static final int SMALL_INT_MIN = -128;
+    private static final int SMALL_INT_MAX = 127;
+    private static final int SLOTS = SMALL_INTS + SMALL_INT_MAX - SMALL_INT_MIN + 1;
+
+    private final Object[] wrappers = new Object[SLOTS];
+
+    /**
+     * Builds the table, wrapping every canonical value once.
+     *
+     * @param wrap creates the wrapper of a value
+     */
+    public CanonicalValues(Function<Object, ? extends W> wrap) {
+        Objects.requireNonNull(wrap);
+        for (int slot = 0; slot < SLOTS; slot++) {
+            wrappers[slot] = wrap.apply(valueOf(slot));
+        }
+    }
+
+    /**
+     * Returns the canonical wrapper of the value, or null if the value has none.
+     *
+     * @param value the value to be wrapped
+     * @return the shared wrapper, or null
+     */
+    @SuppressWarnings("unchecked")
+    public W lookup(Object value) {
+        int slot = slotOf(value);
+        return slot < 0 ? null : (W) wrappers[slot];
+    }
+
+    private static int slotOf(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? TRUE : FALSE;
+        }
+        if (value instanceof Integer) {
+            int i = (Integer) value;
+            return i >= SMALL_INT_MIN && i <= SMALL_INT_MAX ? SMALL_INTS + i - SMALL_INT_MIN : -1;
+        }
+        if (value instanceof String && ((String) value).isEmpty()) {
+            return EMPTY_STRING;
+        }
+        return -1;
+    }
+
+    private static Object valueOf(int slot) {
+        switch (slot) {
+            case NULL:
+                return null;
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case EMPTY_STRING:
+                return "";
+            default:
+                return slot - SMALL_INTS + SMALL_INT_MIN;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.acepero13.functionalaids.try2;
+
+/**
+ * Raised by {@link TryCircuitBreaker} when a call is rejected because the circuit is open.
+ * <p>
+ * A rejection says nothing about the caller, only that the protected computation was not evaluated, so the breaker
+ * returns one preallocated Failure holding this instance instead of building an exception per rejected call.
+ */
+public final class CircuitOpenException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final CircuitOpenException INSTANCE = new CircuitOpenException();
+
+    private CircuitOpenException() {
+        super("Circuit breaker is open", null, false, false);
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the shared, stackless exception
+     */
+    public static CircuitOpenException instance() {
+        return INSTANCE;
+    }
+}
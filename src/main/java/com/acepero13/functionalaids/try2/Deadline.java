@@ -0,0 +1,91 @@
+package com.acepero13.functionalaids.try2;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * An end-to-end time budget shared by all the stages of a Try chain.
+ * <p>
+ * A Try created by {@link #of(Supplier)} or {@link #bind(Try)} carries the deadline through {@code map},
+ * {@code flatMap}, {@code filter} and {@code orElse}: each stage runs with whatever is left of the budget and is
+ * interrupted when it runs out, and once the budget is spent the remaining stages are skipped and a Failure holding a
+ * {@link TimeoutFailure} is returned instead of starting more work.
+ *
+ * <pre>
+ *     Deadline deadline = Deadline.after(Duration.ofMillis(200));
+ *     Try[Order] order = deadline.of(() -- users.find(id))
+ *             .flatMap(user -- orders.latest(user))
+ *             .map(Order::withTotals);
+ * </pre>
+ */
+public final class Deadline {
+
+    private final long expiresAt;
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Returns a deadline expiring once the given budget has elapsed from now.
+     *
+     * @param budget the time available
+     * @return a new deadline
+     */
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget);
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Returns true if the budget has been spent.
+     *
+     * @return true if the deadline has expired, false otherwise
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Returns the time left, which is zero or negative once the deadline has expired.
+     *
+     * @return the remaining budget
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    long remainingNanos() {
+        return expiresAt - System.nanoTime();
+    }
+
+    /**
+     * Evaluates <i>ofThrowable</i> with the remaining budget, see {@link Try#withTimeout(Supplier, Duration)}.
+     *
+     * @param ofThrowable an instance to be evaluated which may raise an exception
+     * @param <T>         The type to be wrapped
+     * @return a Try carrying this deadline through its stages
+     */
+    public <T> Try<T> of(Supplier<T> ofThrowable) {
+        return bind(TryScheduler.withTimeout(ofThrowable, remainingNanos()));
+    }
+
+    /**
+     * Makes the stages chained on the given Try run within this deadline.
+     *
+     * @param value the Try to be bound
+     * @param <T>   The type of the value
+     * @return a Try carrying this deadline through its stages
+     */
+    public <T> Try<T> bind(Try<T> value) {
+        Objects.requireNonNull(value);
+        return value instanceof DeadlineTry && ((DeadlineTry<T>) value).deadline() == this
+                ? value
+                : new DeadlineTry<>(value, this);
+    }
+
+    <T> Try<T> expired() {
+        return new DeadlineTry<>(Try.failure(new TimeoutFailure("Deadline exceeded")), this);
+    }
+}
@@ -0,0 +1,176 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Try whose chained stages run within a {@link Deadline}. Stages on a Success run with the remaining budget, like
+ * {@link Try#withTimeout}, and are skipped with a {@link TimeoutFailure} once it is spent. As with any other Try, an
+ * exception thrown by a mapper propagates instead of becoming a Failure. Every other operation delegates to the wrapped
+ * Try.
+ *
+ * @param <T> Type of the value
+ */
+final class DeadlineTry<T> implements Try<T> {
+
+    private final Try<T> delegate;
+    private final Deadline deadline;
+
+    DeadlineTry(Try<T> delegate, Deadline deadline) {
+        this.delegate = delegate;
+        this.deadline = deadline;
+    }
+
+    Deadline deadline() {
+        return deadline;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        if (delegate.isFailure()) {
+            return (Try<U>) this;
+        }
+        return deadline.isExpired()
+                ? deadline.expired()
+                : deadline.bind(TryScheduler.within(() -> Try.success(mapper.apply(delegate.getSilent())),
+                deadline.remainingNanos()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Try<U> flatMap(Function<? super T, ? extends Try<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        if (delegate.isFailure()) {
+            return (Try<U>) this;
+        }
+        return deadline.isExpired()
+                ? deadline.expired()
+                : deadline.bind(TryScheduler.within(() -> mapper.apply(delegate.getSilent()),
+                deadline.remainingNanos()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Try<U> orElse(Supplier<Try<? extends U>> or) {
+        Objects.requireNonNull(or);
+        if (delegate.isSuccess()) {
+            return (Try<U>) this;
+        }
+        return deadline.isExpired()
+                ? deadline.expired()
+                : deadline.bind(TryScheduler.within(() -> (Try<U>) or.get(), deadline.remainingNanos()));
+    }
+
+    @Override
+    public Try<T> filter(Predicate<T> p) {
+        Objects.requireNonNull(p);
+        if (delegate.isFailure()) {
+            return this;
+        }
+        return deadline.isExpired()
+                ? deadline.expired()
+                : deadline.bind(delegate.filter(p));
+    }
+
+    @Override
+    public Try<T> filter(Predicate<T> p, Supplier<? extends Throwable> error) {
+        Objects.requireNonNull(p);
+        if (delegate.isFailure()) {
+            return this;
+        }
+        return deadline.isExpired()
+                ? deadline.expired()
+                : deadline.bind(delegate.filter(p, error));
+    }
+
+    @Override
+    public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+        return delegate.mapToInt(mapper);
+    }
+
+    @Override
+    public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+        return delegate.mapToLong(mapper);
+    }
+
+    @Override
+    public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return delegate.mapToDouble(mapper);
+    }
+
+    @Override
+    public <U extends T> U getOrElse(Supplier<U> or) {
+        return delegate.getOrElse(or);
+    }
+
+    @Override
+    public void forEach(Consumer<T> consumer) {
+        delegate.forEach(consumer);
+    }
+
+    @Override
+    public <U> U fold(Function<Throwable, U> fFail, Function<T, U> fSuccess) {
+        return delegate.fold(fFail, fSuccess);
+    }
+
+    @Override
+    public <U> Optional<U> foldOptional(Function<Throwable, U> fFail, Function<T, U> fSuccess) {
+        return delegate.foldOptional(fFail, fSuccess);
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return delegate.isSuccess();
+    }
+
+    @Override
+    public boolean isFailure() {
+        return delegate.isFailure();
+    }
+
+    @Override
+    public void ifSuccess(Consumer<T> consumer) {
+        delegate.ifSuccess(consumer);
+    }
+
+    @Override
+    public void ifFailure(Consumer<Throwable> consumer) {
+        delegate.ifFailure(consumer);
+    }
+
+    @Override
+    public T getSilent() throws RuntimeException {
+        return delegate.getSilent();
+    }
+
+    @Override
+    public T get() throws Throwable {
+        return delegate.get();
+    }
+
+    @Override
+    public Optional<T> toOptional() {
+        return delegate.toOptional();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeadlineTry)) return false;
+        return delegate.equals(((DeadlineTry<?>) o).delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+}
@@ -0,0 +1,290 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+final class DoubleTryImpl {
+    private DoubleTryImpl() {
+    }
+
+    public static DoubleTry failure(Throwable error) {
+        return new Failure(error);
+    }
+
+    public static DoubleTry success(double value) {
+        return new Success(value);
+    }
+
+    private static final class Success implements DoubleTry {
+
+        private final double value;
+
+        private Success(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public DoubleTry map(DoubleUnaryOperator mapper) {
+            Objects.requireNonNull(mapper);
+            return new Success(mapper.applyAsDouble(value));
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+            return Try.success(mapper.apply(value));
+        }
+
+        @Override
+        public IntTry mapToInt(DoubleToIntFunction mapper) {
+            Objects.requireNonNull(mapper);
+            return IntTry.success(mapper.applyAsInt(value));
+        }
+
+        @Override
+        public LongTry mapToLong(DoubleToLongFunction mapper) {
+            Objects.requireNonNull(mapper);
+            return LongTry.success(mapper.applyAsLong(value));
+        }
+
+        @Override
+        public DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper) {
+            Objects.requireNonNull(mapper);
+            return mapper.apply(value);
+        }
+
+        @Override
+        public DoubleTry orElse(Supplier<? extends DoubleTry> or) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate p) {
+            Objects.requireNonNull(p);
+            return p.test(value)
+                    ? this
+                    : new Failure(PredicateFailedException.instance());
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate p, Supplier<? extends Throwable> error) {
+            Objects.requireNonNull(p);
+            Objects.requireNonNull(error);
+            return p.test(value)
+                    ? this
+                    : new Failure(error.get());
+        }
+
+        @Override
+        public double getOrElse(double or) {
+            return value;
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier or) {
+            return value;
+        }
+
+        @Override
+        public <U> U fold(Function<Throwable, U> fFail, DoubleFunction<U> fSuccess) {
+            Objects.requireNonNull(fSuccess);
+            return fSuccess.apply(value);
+        }
+
+        @Override
+        public double foldToDouble(ToDoubleFunction<Throwable> fFail, DoubleUnaryOperator fSuccess) {
+            Objects.requireNonNull(fSuccess);
+            return fSuccess.applyAsDouble(value);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public void ifSuccess(DoubleConsumer consumer) {
+            Objects.requireNonNull(consumer);
+            consumer.accept(value);
+        }
+
+        @Override
+        public void ifFailure(Consumer<Throwable> consumer) {
+            // Do nothing
+        }
+
+        @Override
+        public double getSilent() {
+            return value;
+        }
+
+        @Override
+        public double get() {
+            return value;
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public Try<Double> boxed() {
+            return Try.success(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Success)) return false;
+            Success success = (Success) o;
+            return Double.compare(value, success.value) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+    }
+
+    private static final class Failure implements DoubleTry {
+
+        private final Throwable error;
+
+        private Failure(Throwable error) {
+            Objects.requireNonNull(error);
+            this.error = error;
+        }
+
+        @Override
+        public DoubleTry map(DoubleUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            return Try.failure(error);
+        }
+
+        @Override
+        public IntTry mapToInt(DoubleToIntFunction mapper) {
+            return IntTry.failure(error);
+        }
+
+        @Override
+        public LongTry mapToLong(DoubleToLongFunction mapper) {
+            return LongTry.failure(error);
+        }
+
+        @Override
+        public DoubleTry flatMap(DoubleFunction<? extends DoubleTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry orElse(Supplier<? extends DoubleTry> or) {
+            Objects.requireNonNull(or);
+            return or.get();
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate p) {
+            return this;
+        }
+
+        @Override
+        public DoubleTry filter(DoublePredicate p, Supplier<? extends Throwable> error) {
+            return this;
+        }
+
+        @Override
+        public double getOrElse(double or) {
+            return or;
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier or) {
+            Objects.requireNonNull(or);
+            return or.getAsDouble();
+        }
+
+        @Override
+        public <U> U fold(Function<Throwable, U> fFail, DoubleFunction<U> fSuccess) {
+            Objects.requireNonNull(fFail);
+            return fFail.apply(error);
+        }
+
+        @Override
+        public double foldToDouble(ToDoubleFunction<Throwable> fFail, DoubleUnaryOperator fSuccess) {
+            Objects.requireNonNull(fFail);
+            return fFail.applyAsDouble(error);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public void ifSuccess(DoubleConsumer consumer) {
+            // Do nothing
+        }
+
+        @Override
+        public void ifFailure(Consumer<Throwable> consumer) {
+            Objects.requireNonNull(consumer);
+            consumer.accept(error);
+        }
+
+        @Override
+        public double getSilent() throws RuntimeException {
+            throw new RuntimeException(error);
+        }
+
+        @Override
+        public double get() throws Throwable {
+            throw error;
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public Try<Double> boxed() {
+            return Try.failure(error);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
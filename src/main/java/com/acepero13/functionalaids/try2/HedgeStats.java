@@ -0,0 +1,79 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of {@link Try#hedged(java.util.function.Supplier, java.util.function.Supplier, java.time.Duration)}.
+ * <p>
+ * A hedge <i>fires</i> when the primary computation has not completed within the delay and the fallback is started
+ * alongside it. It is <i>won</i> when the fallback's Success is the one returned. The counters are striped, so
+ * updating them does not become a contention point.
+ */
+public final class HedgeStats {
+
+    private static final HedgeStats GLOBAL = new HedgeStats();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder won = new LongAdder();
+
+    private HedgeStats() {
+    }
+
+    /**
+     * Returns the counters shared by every hedged call.
+     *
+     * @return the global counters
+     */
+    public static HedgeStats global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Number of hedged calls.
+     *
+     * @return the number of calls
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * Number of calls in which the fallback was started because the primary was too slow.
+     *
+     * @return the number of times the hedge fired
+     */
+    public long fired() {
+        return fired.sum();
+    }
+
+    /**
+     * Number of calls in which the hedge fired and the fallback's Success was returned.
+     *
+     * @return the number of times the hedge won
+     */
+    public long won() {
+        return won.sum();
+    }
+
+    /**
+     * Sets all the counters back to zero.
+     */
+    public void reset() {
+        calls.reset();
+        fired.reset();
+        won.reset();
+    }
+
+    void recordCall() {
+        calls.increment();
+    }
+
+    void recordFired() {
+        fired.increment();
+    }
+
+    void recordWon() {
+        won.increment();
+    }
+}
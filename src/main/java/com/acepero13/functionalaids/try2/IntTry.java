@@ -0,0 +1,230 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Try} specialized for {@code int} values, so a successful computation is never boxed.
+ *
+ * @see Try
+ */
+public interface IntTry {
+
+    /**
+     * Returns a Failure instance holding the given Throwable.
+     *
+     * @param error exception
+     * @return Failure instance
+     */
+    static IntTry failure(Throwable error) {
+        return IntTryImpl.failure(error);
+    }
+
+    /**
+     * Returns a Success instance.
+     *
+     * @param value the value to be wrapped
+     * @return Success instance
+     */
+    static IntTry success(int value) {
+        return IntTryImpl.success(value);
+    }
+
+    /**
+     * Returns either a Success or a Failure depending of the evaluation of <i>ofThrowable</i>.
+     *
+     * @param ofThrowable an instance to be evaluated which may raise an exception. See {@link Try#of(Supplier)}
+     * @return An instance of Success or Failure depending on whether the evaluation of <i>ofThrowable</i> was
+     * successful or not.
+     */
+    static IntTry of(IntSupplier ofThrowable) {
+        try {
+            return success(ofThrowable.getAsInt());
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    /**
+     * Converts a generic Try into its specialized version. A Success holding {@code null} becomes a Failure.
+     *
+     * @param value the Try to be converted
+     * @return The specialized Try
+     */
+    static IntTry fromTry(Try<Integer> value) {
+        return value.fold(IntTry::failure, v -> of(() -> v));
+    }
+
+    /**
+     * Maps the given function to the value from <b>this</b> Success or returns <b>this</b> if <b>this</b> is a Failure.
+     *
+     * @param mapper function to be applied
+     * @return a new IntTry wrapping the value calculated by mapper
+     */
+    IntTry map(IntUnaryOperator mapper);
+
+    /**
+     * Maps the given function to the value from <b>this</b> Success into a generic Try.
+     *
+     * @param mapper function to be applied
+     * @param <U>    Type of the function's result
+     * @return a new Try wrapping the value calculated by mapper
+     */
+    <U> Try<U> mapToObj(IntFunction<? extends U> mapper);
+
+    /**
+     * Maps the given function to the value from <b>this</b> Success.
+     *
+     * @param mapper function to be applied
+     * @return a new LongTry wrapping the value calculated by mapper
+     */
+    LongTry mapToLong(IntToLongFunction mapper);
+
+    /**
+     * Maps the given function to the value from <b>this</b> Success.
+     *
+     * @param mapper function to be applied
+     * @return a new DoubleTry wrapping the value calculated by mapper
+     */
+    DoubleTry mapToDouble(IntToDoubleFunction mapper);
+
+    /**
+     * Returns the given function applied to the value from <b>this</b> Success or returns <b>this</b> if <b>this</b> is
+     * a Failure.
+     *
+     * @param mapper function to be applied
+     * @return the IntTry returned by mapper
+     */
+    IntTry flatMap(IntFunction<? extends IntTry> mapper);
+
+    /**
+     * Returns <b>this</b> if Success, or the given alternative if <b>this</b> is a Failure.
+     *
+     * @param or supplier of the alternative
+     * @return <b>this</b> or the alternative
+     */
+    IntTry orElse(Supplier<? extends IntTry> or);
+
+    /**
+     * Converts <b>this</b> to a Failure if the predicate is not satisfied.
+     * The failure holds the shared {@link PredicateFailedException}, which has no stack trace.
+     *
+     * @param p Predicate
+     * @return if predicate holds, return <b>this</b>, failure otherwise
+     */
+    IntTry filter(IntPredicate p);
+
+    /**
+     * Converts <b>this</b> to a Failure holding the given error if the predicate is not satisfied.
+     * The error is only requested when the predicate does not hold.
+     *
+     * @param p     Predicate
+     * @param error the error of the failure in case the predicate does not hold
+     * @return if predicate holds, return <b>this</b>, failure otherwise
+     */
+    IntTry filter(IntPredicate p, Supplier<? extends Throwable> error);
+
+    /**
+     * Returns the value from <b>this</b> Success or the given default argument if <b>this</b> is a Failure.
+     *
+     * @param or default value in case <b>this</b> is a Failure
+     * @return The value if <b>this</b> is Success, default (or) otherwise
+     */
+    int getOrElse(int or);
+
+    /**
+     * Returns the value from <b>this</b> Success or the supplied default if <b>this</b> is a Failure.
+     *
+     * @param or supplier of the default value in case <b>this</b> is a Failure
+     * @return The value if <b>this</b> is Success, default (or) otherwise
+     */
+    int getOrElse(IntSupplier or);
+
+    /**
+     * Applies fFail if <b>this</b> is a Failure or fSuccess if <b>this</b> is a Success.
+     *
+     * @param fFail    function to apply in case <b>this</b> is a Failure
+     * @param fSuccess function to apply in case <b>this</b> is a Success
+     * @param <U>      return type
+     * @return the value after applying either function
+     */
+    <U> U fold(Function<Throwable, U> fFail, IntFunction<U> fSuccess);
+
+    /**
+     * Applies fFail if <b>this</b> is a Failure or fSuccess if <b>this</b> is a Success, without boxing the result.
+     *
+     * @param fFail    function to apply in case <b>this</b> is a Failure
+     * @param fSuccess function to apply in case <b>this</b> is a Success
+     * @return the value after applying either function
+     */
+    int foldToInt(ToIntFunction<Throwable> fFail, IntUnaryOperator fSuccess);
+
+    /**
+     * Returns true if the Try is a Success, false otherwise.
+     *
+     * @return true if <b>this</b> a Success, false otherwise
+     */
+    boolean isSuccess();
+
+    /**
+     * Returns true if the Try is a Failure, false otherwise.
+     *
+     * @return true if <b>this</b> is a Failure, true otherwise
+     */
+    boolean isFailure();
+
+    /**
+     * Executes side effect function in case <b>this</b> is a success
+     *
+     * @param consumer function to apply
+     */
+    void ifSuccess(IntConsumer consumer);
+
+    /**
+     * Executes side effect function in case <b>this</b> is a failure.
+     *
+     * @param consumer function to apply
+     */
+    void ifFailure(Consumer<Throwable> consumer);
+
+    /**
+     * Returns the value from <b>this</b> Success or throws the exception, wrapped in a RuntimeException, if <b>this</b>
+     * is a Failure.
+     *
+     * @return the value of success, exception otherwise
+     * @see Try#getSilent()
+     */
+    int getSilent() throws RuntimeException;
+
+    /**
+     * Returns the value from <b>this</b> Success or throws the exception if <b>this</b> is a Failure.
+     * @throws Throwable the throwable found in case <b>this</b> is a Failure
+     *
+     * @return the value of success, exception otherwise
+     */
+    int get() throws Throwable;
+
+    /**
+     * Returns an optional value from the try. If <b>this</b> is Failure, it returns {@link OptionalInt#empty()}
+     *
+     * @return Optional with the current value or empty if Failure
+     */
+    OptionalInt toOptional();
+
+    /**
+     * Converts <b>this</b> into a generic Try, boxing the value.
+     *
+     * @return the generic Try
+     */
+    Try<Integer> boxed();
+}
@@ -0,0 +1,290 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+final class IntTryImpl {
+    private IntTryImpl() {
+    }
+
+    public static IntTry failure(Throwable error) {
+        return new Failure(error);
+    }
+
+    public static IntTry success(int value) {
+        return new Success(value);
+    }
+
+    private static final class Success implements IntTry {
+
+        private final int value;
+
+        private Success(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public IntTry map(IntUnaryOperator mapper) {
+            Objects.requireNonNull(mapper);
+            return new Success(mapper.applyAsInt(value));
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+            return Try.success(mapper.apply(value));
+        }
+
+        @Override
+        public LongTry mapToLong(IntToLongFunction mapper) {
+            Objects.requireNonNull(mapper);
+            return LongTry.success(mapper.applyAsLong(value));
+        }
+
+        @Override
+        public DoubleTry mapToDouble(IntToDoubleFunction mapper) {
+            Objects.requireNonNull(mapper);
+            return DoubleTry.success(mapper.applyAsDouble(value));
+        }
+
+        @Override
+        public IntTry flatMap(IntFunction<? extends IntTry> mapper) {
+            Objects.requireNonNull(mapper);
+            return mapper.apply(value);
+        }
+
+        @Override
+        public IntTry orElse(Supplier<? extends IntTry> or) {
+            return this;
+        }
+
+        @Override
+        public IntTry filter(IntPredicate p) {
+            Objects.requireNonNull(p);
+            return p.test(value)
+                    ? this
+                    : new Failure(PredicateFailedException.instance());
+        }
+
+        @Override
+        public IntTry filter(IntPredicate p, Supplier<? extends Throwable> error) {
+            Objects.requireNonNull(p);
+            Objects.requireNonNull(error);
+            return p.test(value)
+                    ? this
+                    : new Failure(error.get());
+        }
+
+        @Override
+        public int getOrElse(int or) {
+            return value;
+        }
+
+        @Override
+        public int getOrElse(IntSupplier or) {
+            return value;
+        }
+
+        @Override
+        public <U> U fold(Function<Throwable, U> fFail, IntFunction<U> fSuccess) {
+            Objects.requireNonNull(fSuccess);
+            return fSuccess.apply(value);
+        }
+
+        @Override
+        public int foldToInt(ToIntFunction<Throwable> fFail, IntUnaryOperator fSuccess) {
+            Objects.requireNonNull(fSuccess);
+            return fSuccess.applyAsInt(value);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public void ifSuccess(IntConsumer consumer) {
+            Objects.requireNonNull(consumer);
+            consumer.accept(value);
+        }
+
+        @Override
+        public void ifFailure(Consumer<Throwable> consumer) {
+            // Do nothing
+        }
+
+        @Override
+        public int getSilent() {
+            return value;
+        }
+
+        @Override
+        public int get() {
+            return value;
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public Try<Integer> boxed() {
+            return Try.success(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Success)) return false;
+            Success success = (Success) o;
+            return value == success.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+    }
+
+    private static final class Failure implements IntTry {
+
+        private final Throwable error;
+
+        private Failure(Throwable error) {
+            Objects.requireNonNull(error);
+            this.error = error;
+        }
+
+        @Override
+        public IntTry map(IntUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+            return Try.failure(error);
+        }
+
+        @Override
+        public LongTry mapToLong(IntToLongFunction mapper) {
+            return LongTry.failure(error);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(IntToDoubleFunction mapper) {
+            return DoubleTry.failure(error);
+        }
+
+        @Override
+        public IntTry flatMap(IntFunction<? extends IntTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public IntTry orElse(Supplier<? extends IntTry> or) {
+            Objects.requireNonNull(or);
+            return or.get();
+        }
+
+        @Override
+        public IntTry filter(IntPredicate p) {
+            return this;
+        }
+
+        @Override
+        public IntTry filter(IntPredicate p, Supplier<? extends Throwable> error) {
+            return this;
+        }
+
+        @Override
+        public int getOrElse(int or) {
+            return or;
+        }
+
+        @Override
+        public int getOrElse(IntSupplier or) {
+            Objects.requireNonNull(or);
+            return or.getAsInt();
+        }
+
+        @Override
+        public <U> U fold(Function<Throwable, U> fFail, IntFunction<U> fSuccess) {
+            Objects.requireNonNull(fFail);
+            return fFail.apply(error);
+        }
+
+        @Override
+        public int foldToInt(ToIntFunction<Throwable> fFail, IntUnaryOperator fSuccess) {
+            Objects.requireNonNull(fFail);
+            return fFail.applyAsInt(error);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public void ifSuccess(IntConsumer consumer) {
+            // Do nothing
+        }
+
+        @Override
+        public void ifFailure(Consumer<Throwable> consumer) {
+            Objects.requireNonNull(consumer);
+            consumer.accept(error);
+        }
+
+        @Override
+        public int getSilent() throws RuntimeException {
+            throw new RuntimeException(error);
+        }
+
+        @Override
+        public int get() throws Throwable {
+            throw error;
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public Try<Integer> boxed() {
+            return Try.failure(error);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
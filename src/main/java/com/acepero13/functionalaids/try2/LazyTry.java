@@ -0,0 +1,166 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Try whose computation runs the first time its outcome is needed. {@code map}, {@code flatMap}, {@code orElse}
+ * and {@code filter} return new lazy instances without running anything; every other operation, including the
+ * primitive maps, {@code equals}, {@code hashCode} and {@code toString}, evaluates the computation exactly once, even
+ * under concurrent access, and delegates to the memoized result.
+ *
+ * @param <T> Type of the value
+ */
+final class LazyTry<T> implements Try<T> {
+
+    private Supplier<? extends Try<T>> computation;
+    private volatile Try<T> result;
+
+    private LazyTry(Supplier<? extends Try<T>> computation) {
+        Objects.requireNonNull(computation);
+        this.computation = computation;
+    }
+
+    static <T> Try<T> of(Supplier<T> ofThrowable) {
+        Objects.requireNonNull(ofThrowable);
+        return new LazyTry<>(() -> Try.of(ofThrowable));
+    }
+
+    private Try<T> evaluate() {
+        Try<T> evaluated = result;
+        if (evaluated == null) {
+            synchronized (this) {
+                evaluated = result;
+                if (evaluated == null) {
+                    evaluated = Objects.requireNonNull(computation.get());
+                    result = evaluated;
+                    computation = null;
+                }
+            }
+        }
+        return evaluated;
+    }
+
+    @Override
+    public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyTry<>(() -> evaluate().map(mapper));
+    }
+
+    @Override
+    public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+        return evaluate().mapToInt(mapper);
+    }
+
+    @Override
+    public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+        return evaluate().mapToLong(mapper);
+    }
+
+    @Override
+    public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return evaluate().mapToDouble(mapper);
+    }
+
+    @Override
+    public <U> Try<U> flatMap(Function<? super T, ? extends Try<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyTry<>(() -> evaluate().flatMap(mapper));
+    }
+
+    @Override
+    public <U> Try<U> orElse(Supplier<Try<? extends U>> or) {
+        Objects.requireNonNull(or);
+        return new LazyTry<U>(() -> evaluate().orElse(or));
+    }
+
+    @Override
+    public Try<T> filter(Predicate<T> p) {
+        Objects.requireNonNull(p);
+        return new LazyTry<>(() -> evaluate().filter(p));
+    }
+
+    @Override
+    public Try<T> filter(Predicate<T> p, Supplier<? extends Throwable> error) {
+        Objects.requireNonNull(p);
+        return new LazyTry<>(() -> evaluate().filter(p, error));
+    }
+
+    @Override
+    public <U extends T> U getOrElse(Supplier<U> or) {
+        return evaluate().getOrElse(or);
+    }
+
+    @Override
+    public void forEach(Consumer<T> consumer) {
+        evaluate().forEach(consumer);
+    }
+
+    @Override
+    public <U> U fold(Function<Throwable, U> fFail, Function<T, U> fSuccess) {
+        return evaluate().fold(fFail, fSuccess);
+    }
+
+    @Override
+    public <U> Optional<U> foldOptional(Function<Throwable, U> fFail, Function<T, U> fSuccess) {
+        return evaluate().foldOptional(fFail, fSuccess);
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return evaluate().isSuccess();
+    }
+
+    @Override
+    public boolean isFailure() {
+        return evaluate().isFailure();
+    }
+
+    @Override
+    public void ifSuccess(Consumer<T> consumer) {
+        evaluate().ifSuccess(consumer);
+    }
+
+    @Override
+    public void ifFailure(Consumer<Throwable> consumer) {
+        evaluate().ifFailure(consumer);
+    }
+
+    @Override
+    public T getSilent() throws RuntimeException {
+        return evaluate().getSilent();
+    }
+
+    @Override
+    public T get() throws Throwable {
+        return evaluate().get();
+    }
+
+    @Override
+    public Optional<T> toOptional() {
+        return evaluate().toOptional();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return evaluate().equals(o instanceof LazyTry ? ((LazyTry<?>) o).evaluate() : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return evaluate().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return evaluate().toString();
+    }
+}
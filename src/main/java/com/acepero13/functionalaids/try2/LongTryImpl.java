@@ -0,0 +1,290 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+final class LongTryImpl {
+    private LongTryImpl() {
+    }
+
+    public static LongTry failure(Throwable error) {
+        return new Failure(error);
+    }
+
+    public static LongTry success(long value) {
+        return new Success(value);
+    }
+
+    private static final class Success implements LongTry {
+
+        private final long value;
+
+        private Success(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public LongTry map(LongUnaryOperator mapper) {
+            Objects.requireNonNull(mapper);
+            return new Success(mapper.applyAsLong(value));
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+            return Try.success(mapper.apply(value));
+        }
+
+        @Override
+        public IntTry mapToInt(LongToIntFunction mapper) {
+            Objects.requireNonNull(mapper);
+            return IntTry.success(mapper.applyAsInt(value));
+        }
+
+        @Override
+        public DoubleTry mapToDouble(LongToDoubleFunction mapper) {
+            Objects.requireNonNull(mapper);
+            return DoubleTry.success(mapper.applyAsDouble(value));
+        }
+
+        @Override
+        public LongTry flatMap(LongFunction<? extends LongTry> mapper) {
+            Objects.requireNonNull(mapper);
+            return mapper.apply(value);
+        }
+
+        @Override
+        public LongTry orElse(Supplier<? extends LongTry> or) {
+            return this;
+        }
+
+        @Override
+        public LongTry filter(LongPredicate p) {
+            Objects.requireNonNull(p);
+            return p.test(value)
+                    ? this
+                    : new Failure(PredicateFailedException.instance());
+        }
+
+        @Override
+        public LongTry filter(LongPredicate p, Supplier<? extends Throwable> error) {
+            Objects.requireNonNull(p);
+            Objects.requireNonNull(error);
+            return p.test(value)
+                    ? this
+                    : new Failure(error.get());
+        }
+
+        @Override
+        public long getOrElse(long or) {
+            return value;
+        }
+
+        @Override
+        public long getOrElse(LongSupplier or) {
+            return value;
+        }
+
+        @Override
+        public <U> U fold(Function<Throwable, U> fFail, LongFunction<U> fSuccess) {
+            Objects.requireNonNull(fSuccess);
+            return fSuccess.apply(value);
+        }
+
+        @Override
+        public long foldToLong(ToLongFunction<Throwable> fFail, LongUnaryOperator fSuccess) {
+            Objects.requireNonNull(fSuccess);
+            return fSuccess.applyAsLong(value);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public void ifSuccess(LongConsumer consumer) {
+            Objects.requireNonNull(consumer);
+            consumer.accept(value);
+        }
+
+        @Override
+        public void ifFailure(Consumer<Throwable> consumer) {
+            // Do nothing
+        }
+
+        @Override
+        public long getSilent() {
+            return value;
+        }
+
+        @Override
+        public long get() {
+            return value;
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public Try<Long> boxed() {
+            return Try.success(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Success)) return false;
+            Success success = (Success) o;
+            return value == success.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+    }
+
+    private static final class Failure implements LongTry {
+
+        private final Throwable error;
+
+        private Failure(Throwable error) {
+            Objects.requireNonNull(error);
+            this.error = error;
+        }
+
+        @Override
+        public LongTry map(LongUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+            return Try.failure(error);
+        }
+
+        @Override
+        public IntTry mapToInt(LongToIntFunction mapper) {
+            return IntTry.failure(error);
+        }
+
+        @Override
+        public DoubleTry mapToDouble(LongToDoubleFunction mapper) {
+            return DoubleTry.failure(error);
+        }
+
+        @Override
+        public LongTry flatMap(LongFunction<? extends LongTry> mapper) {
+            return this;
+        }
+
+        @Override
+        public LongTry orElse(Supplier<? extends LongTry> or) {
+            Objects.requireNonNull(or);
+            return or.get();
+        }
+
+        @Override
+        public LongTry filter(LongPredicate p) {
+            return this;
+        }
+
+        @Override
+        public LongTry filter(LongPredicate p, Supplier<? extends Throwable> error) {
+            return this;
+        }
+
+        @Override
+        public long getOrElse(long or) {
+            return or;
+        }
+
+        @Override
+        public long getOrElse(LongSupplier or) {
+            Objects.requireNonNull(or);
+            return or.getAsLong();
+        }
+
+        @Override
+        public <U> U fold(Function<Throwable, U> fFail, LongFunction<U> fSuccess) {
+            Objects.requireNonNull(fFail);
+            return fFail.apply(error);
+        }
+
+        @Override
+        public long foldToLong(ToLongFunction<Throwable> fFail, LongUnaryOperator fSuccess) {
+            Objects.requireNonNull(fFail);
+            return fFail.applyAsLong(error);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public void ifSuccess(LongConsumer consumer) {
+            // Do nothing
+        }
+
+        @Override
+        public void ifFailure(Consumer<Throwable> consumer) {
+            Objects.requireNonNull(consumer);
+            consumer.accept(error);
+        }
+
+        @Override
+        public long getSilent() throws RuntimeException {
+            throw new RuntimeException(error);
+        }
+
+        @Override
+        public long get() throws Throwable {
+            throw error;
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public Try<Long> boxed() {
+            return Try.failure(error);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.acepero13.functionalaids.try2;
+
+/**
+ * Raised by {@link Try#filter(java.util.function.Predicate)} when the predicate does not hold.
+ * <p>
+ * The exception carries no stack trace and no suppressed exceptions, so a single shared instance is used for every
+ * rejected value and rejecting costs no stack walk.
+ */
+public final class PredicateFailedException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final PredicateFailedException INSTANCE = new PredicateFailedException();
+
+    private PredicateFailedException() {
+        super("Predicate not satisfied", null, false, false);
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the shared, stackless exception
+     */
+    public static PredicateFailedException instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,21 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Raised when a computation did not complete within its time budget, see {@link Try#withTimeout} and
+ * {@link Deadline}. It carries no stack trace: it only says the budget was spent, not where.
+ */
+public final class TimeoutFailure extends TimeoutException {
+
+    private static final long serialVersionUID = 1L;
+
+    TimeoutFailure(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -2,11 +2,19 @@ package com.acepero13.functionalaids.try2;
 
 import com.acepero13.functionalaids.either.Either;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * The Try type represents a computation that may either result in an exception, or return a successfully computed value.
@@ -14,7 +22,7 @@ import java.util.function.Supplier;
  */
 public interface Try<T> {
     /**
-     * Returns a Failure instance. A Throwable is provided.
+     * Returns a Failure instance whose error is computed when it is first needed. The supplier is invoked at most once.
      *
      * @param error exception
      * @param <T>   Type of the non-existent value
@@ -25,8 +33,21 @@ public interface Try<T> {
         return TryImpl.failure(error);
     }
 
+    /**
+     * Returns a Failure instance holding the given Throwable.
+     *
+     * @param error exception
+     * @param <T>   Type of the non-existent value
+     * @return Failure instance
+     */
+    static <T> Try<T> failure(Throwable error) {
+        return TryImpl.failure(error);
+    }
+
     /**
      * Returns a Success instance.
+     * Like {@link Integer#valueOf(int)}, frequently produced values (null, booleans, the empty string and integers
+     * between -128 and 127) share a canonical instance instead of allocating a new one.
      *
      * @param value the value to be wrapped
      * @param <T>   Type of the non-existent value
@@ -36,8 +57,20 @@ public interface Try<T> {
         return TryImpl.success(value);
     }
 
+    /**
+     * Returns the Success of a computation without a meaningful value, holding {@code null}.
+     * The same instance is returned every time.
+     *
+     * @return Success instance
+     */
+    static Try<Void> unit() {
+        return TryImpl.unit();
+    }
+
     /**
      * Returns either a Success or a Failure depending of the evaluation of <i>ofThrowable</i>.
+     * When Java Flight Recorder records the {@code com.acepero13.functionalaids.TryEvaluation} event (disabled by
+     * default), an event with the duration and outcome of the evaluation is emitted.
      *
      * @param ofThrowable an instance to be evaluated which may raise an exception. In case an exception is raised, it
      *                    is capture and the function returns an instance of Failure. If no exception was raised, then
@@ -46,14 +79,215 @@ public interface Try<T> {
      * @return An instance of Success or Failure depending on whether the evaluation of <i>ofThrowable</i> was successful or not.
      */
     static <T> Try<T> of(Supplier<T> ofThrowable) {
+        if (TryEvents.isRecording()) {
+            return TryEvents.evaluate(null, ofThrowable);
+        }
         try {
             return Try.success(ofThrowable.get());
         } catch (Exception e) {
-            return Try.failure(() -> e);
+            return Try.failure(e);
         }
 
     }
 
+    /**
+     * Evaluates <i>ofThrowable</i> like {@link #of(Supplier)} and, if {@link TryMetrics} are enabled, records the
+     * outcome under the given name. The name is also added to the Flight Recorder event, if it is being recorded.
+     *
+     * @param name        the name under which the outcome is recorded
+     * @param ofThrowable an instance to be evaluated which may raise an exception. See {@link #of(Supplier)}
+     * @param <T>         The type to be wrapped
+     * @return An instance of Success or Failure depending on whether the evaluation of <i>ofThrowable</i> was successful or not.
+     */
+    static <T> Try<T> of(String name, Supplier<T> ofThrowable) {
+        if (TryMetrics.isEnabled()) {
+            return TryMetrics.site(name).of(ofThrowable);
+        }
+        return TryEvents.isRecording()
+                ? TryEvents.evaluate(name, ofThrowable)
+                : of(ofThrowable);
+    }
+
+    /**
+     * Evaluates <i>ofThrowable</i> in the calling thread, interrupting it if it has not completed within <i>timeout</i>.
+     * The interruption is scheduled on a single shared thread, no thread is started per call. If the timeout elapses
+     * a Failure holding a {@link TimeoutFailure} is returned, and the interrupt flag of the calling thread is cleared.
+     * <p>
+     * To share a budget between several stages of a chain, see {@link Deadline}.
+     *
+     * @param ofThrowable an instance to be evaluated which may raise an exception. See {@link #of(Supplier)}
+     * @param timeout     the time available for the computation
+     * @param <T>         The type to be wrapped
+     * @return The outcome of the computation, or a Failure if it did not complete in time
+     */
+    static <T> Try<T> withTimeout(Supplier<T> ofThrowable, Duration timeout) {
+        return TryScheduler.withTimeout(ofThrowable, timeout.toNanos());
+    }
+
+    /**
+     * Returns a Try that evaluates <i>ofThrowable</i> the first time its outcome is needed, instead of right away.
+     * {@code map}, {@code flatMap}, {@code orElse} and {@code filter} are composed lazily as well, so branches that
+     * are never read are never computed; the primitive maps such as {@link #mapToInt(ToIntFunction)} evaluate it. The
+     * evaluation happens exactly once, even if several threads access the result at the same time. {@code equals},
+     * {@code hashCode} and {@code toString} evaluate it as well and compare like the resulting Success or Failure.
+     *
+     * @param ofThrowable an instance to be evaluated which may raise an exception. See {@link #of(Supplier)}
+     * @param <T>         The type to be wrapped
+     * @return A lazy Try that behaves like {@code Try.of(ofThrowable)} once evaluated
+     */
+    static <T> Try<T> lazy(Supplier<T> ofThrowable) {
+        return LazyTry.of(ofThrowable);
+    }
+
+    /**
+     * Evaluates <i>ofThrowable</i> asynchronously in the given executor, without blocking the calling thread.
+     *
+     * @param ofThrowable an instance to be evaluated which may raise an exception. See {@link #of(Supplier)}
+     * @param executor    the executor running the computation
+     * @param <T>         The type to be wrapped
+     * @return A TryFuture completing with Success or Failure depending on the evaluation of <i>ofThrowable</i>
+     */
+    static <T> TryFuture<T> async(Supplier<T> ofThrowable, Executor executor) {
+        return TryFuture.of(ofThrowable, executor);
+    }
+
+    /**
+     * Evaluates all the given computations concurrently and collects their values, in the same order as the
+     * computations. As soon as one of them fails the remaining ones are cancelled (interrupted) and its Failure is
+     * returned.
+     * <p>
+     * The computations run on virtual threads when the JVM supports them, on a shared pool of daemon threads otherwise.
+     *
+     * @param tasks computations which may raise an exception. See {@link #of(Supplier)}
+     * @param <T>   The type to be wrapped
+     * @return A Success with all the values, or the first Failure
+     */
+    static <T> Try<List<T>> all(Collection<? extends Supplier<? extends T>> tasks) {
+        return TryTasks.all(tasks, TryExecutors.defaultExecutor());
+    }
+
+    /**
+     * Evaluates all the given computations concurrently in the given executor. See {@link #all(Collection)}.
+     *
+     * @param tasks    computations which may raise an exception. See {@link #of(Supplier)}
+     * @param executor the executor running the computations
+     * @param <T>      The type to be wrapped
+     * @return A Success with all the values, or the first Failure
+     */
+    static <T> Try<List<T>> all(Collection<? extends Supplier<? extends T>> tasks, Executor executor) {
+        return TryTasks.all(tasks, executor);
+    }
+
+    /**
+     * Evaluates all the given computations concurrently and returns the first Success, cancelling (interrupting) the
+     * remaining ones. If all of them fail, the first Failure is returned.
+     * <p>
+     * The computations run on virtual threads when the JVM supports them, on a shared pool of daemon threads otherwise.
+     *
+     * @param tasks computations which may raise an exception. See {@link #of(Supplier)}
+     * @param <T>   The type to be wrapped
+     * @return The first Success, or the first Failure if every computation failed
+     */
+    static <T> Try<T> any(Collection<? extends Supplier<? extends T>> tasks) {
+        return TryTasks.any(tasks, TryExecutors.defaultExecutor());
+    }
+
+    /**
+     * Evaluates all the given computations concurrently in the given executor. See {@link #any(Collection)}.
+     *
+     * @param tasks    computations which may raise an exception. See {@link #of(Supplier)}
+     * @param executor the executor running the computations
+     * @param <T>      The type to be wrapped
+     * @return The first Success, or the first Failure if every computation failed
+     */
+    static <T> Try<T> any(Collection<? extends Supplier<? extends T>> tasks, Executor executor) {
+        return TryTasks.any(tasks, executor);
+    }
+
+    /**
+     * Applies <i>mapper</i> to every element and collects the values, in the same order as the elements.
+     * The first Failure stops the traversal and is returned. The resulting list is presized to the number of elements.
+     *
+     * @param values elements to be mapped
+     * @param mapper function to be applied to every element
+     * @param <A>    Type of the elements
+     * @param <B>    Type of the values
+     * @return A Success with all the values, or the first Failure
+     */
+    static <A, B> Try<List<B>> traverse(Collection<? extends A> values,
+                                        Function<? super A, ? extends Try<? extends B>> mapper) {
+        return TryTraverse.traverse(values, mapper);
+    }
+
+    /**
+     * Applies <i>mapper</i> to every element in parallel on the common {@link ForkJoinPool}.
+     * See {@link #parallelTraverse(Collection, Function, ForkJoinPool)}.
+     *
+     * @param values elements to be mapped
+     * @param mapper function to be applied to every element, from several threads at the same time
+     * @param <A>    Type of the elements
+     * @param <B>    Type of the values
+     * @return A Success with all the values, or a Failure
+     */
+    static <A, B> Try<List<B>> parallelTraverse(Collection<? extends A> values,
+                                                Function<? super A, ? extends Try<? extends B>> mapper) {
+        return TryTraverse.parallelTraverse(values, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies <i>mapper</i> to every element in parallel and collects the values, in the same order as the elements.
+     * <p>
+     * The elements are split in chunks processed by fork-join tasks writing into a single presized array. As soon as
+     * any chunk finds a Failure no more elements are mapped and that Failure is returned. Since chunks run
+     * concurrently, it is not necessarily the Failure of the first failing element. The returned list is fixed-size.
+     *
+     * @param values elements to be mapped
+     * @param mapper function to be applied to every element, from several threads at the same time
+     * @param pool   the pool running the tasks
+     * @param <A>    Type of the elements
+     * @param <B>    Type of the values
+     * @return A Success with all the values, or a Failure
+     */
+    static <A, B> Try<List<B>> parallelTraverse(Collection<? extends A> values,
+                                                Function<? super A, ? extends Try<? extends B>> mapper,
+                                                ForkJoinPool pool) {
+        return TryTraverse.parallelTraverse(values, mapper, pool);
+    }
+
+    /**
+     * Evaluates <i>primary</i> and, if it has not completed within <i>delay</i>, starts <i>fallback</i> alongside it.
+     * The first Success wins and the other computation is cancelled (interrupted). Unlike {@link #orElse(Supplier)},
+     * a slow primary costs at most <i>delay</i> plus the fallback's latency. If the primary fails before the delay
+     * elapses, the fallback is started right away.
+     * <p>
+     * How often the hedge fires and wins is recorded in {@link HedgeStats#global()}. The computations run on virtual
+     * threads when the JVM supports them, on a shared pool of daemon threads otherwise.
+     *
+     * @param primary  computation which may raise an exception. See {@link #of(Supplier)}
+     * @param fallback computation started if <i>primary</i> is too slow or fails
+     * @param delay    how long to wait for <i>primary</i> before starting <i>fallback</i>
+     * @param <T>      The type to be wrapped
+     * @return The first Success, or the first Failure if both computations failed
+     */
+    static <T> Try<T> hedged(Supplier<? extends T> primary, Supplier<? extends T> fallback, Duration delay) {
+        return TryTasks.hedged(primary, fallback, delay, TryExecutors.defaultExecutor());
+    }
+
+    /**
+     * Hedges <i>primary</i> with <i>fallback</i> in the given executor. See {@link #hedged(Supplier, Supplier, Duration)}.
+     *
+     * @param primary  computation which may raise an exception. See {@link #of(Supplier)}
+     * @param fallback computation started if <i>primary</i> is too slow or fails
+     * @param delay    how long to wait for <i>primary</i> before starting <i>fallback</i>
+     * @param executor the executor running the computations
+     * @param <T>      The type to be wrapped
+     * @return The first Success, or the first Failure if both computations failed
+     */
+    static <T> Try<T> hedged(Supplier<? extends T> primary, Supplier<? extends T> fallback, Duration delay,
+                             Executor executor) {
+        return TryTasks.hedged(primary, fallback, delay, executor);
+    }
+
 
     /**
      * Maps the given function to the value from <b>this</b> Success or returns <b>this</b> if <b>this</b> is a Failure.
@@ -64,6 +298,35 @@ public interface Try<T> {
      */
     <U> Try<U> map(Function<? super T, ? extends U> mapper);
 
+    /**
+     * Maps the given function to the value from <b>this</b> Success into an {@link IntTry}, without boxing the result.
+     * <p>
+     * A primitive Try holds its outcome, so this evaluates <b>this</b> right away: the computation of a
+     * {@link #lazy(Supplier)} Try runs, and a Failure created with {@link #failure(Supplier)} asks for its error.
+     *
+     * @param mapper function to be applied
+     * @return a new IntTry wrapping the value calculated by mapper
+     */
+    IntTry mapToInt(ToIntFunction<? super T> mapper);
+
+    /**
+     * Maps the given function to the value from <b>this</b> Success into a {@link LongTry}, without boxing the result.
+     * Like {@link #mapToInt(ToIntFunction)}, this evaluates <b>this</b> right away.
+     *
+     * @param mapper function to be applied
+     * @return a new LongTry wrapping the value calculated by mapper
+     */
+    LongTry mapToLong(ToLongFunction<? super T> mapper);
+
+    /**
+     * Maps the given function to the value from <b>this</b> Success into a {@link DoubleTry}, without boxing the result.
+     * Like {@link #mapToInt(ToIntFunction)}, this evaluates <b>this</b> right away.
+     *
+     * @param mapper function to be applied
+     * @return a new DoubleTry wrapping the value calculated by mapper
+     */
+    DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper);
+
     /**
      * Returns the given function applied to the value from <b>this</b> Success or returns <b>this</b> if <b>this</b> is a Failure.
      *
@@ -77,11 +340,21 @@ public interface Try<T> {
 
     /**
      * Converts <b>this</b> to a Failure if the predicate is not satisfied.
+     * The failure holds the shared {@link PredicateFailedException}, which has no stack trace.
      * @param p Predicate
      * @return if predicate holds, return <b>this</b>, failure otherwise
      */
     Try<T> filter(Predicate<T> p);
 
+    /**
+     * Converts <b>this</b> to a Failure holding the given error if the predicate is not satisfied.
+     * The error is only requested when the predicate does not hold.
+     * @param p     Predicate
+     * @param error the error of the failure in case the predicate does not hold
+     * @return if predicate holds, return <b>this</b>, failure otherwise
+     */
+    Try<T> filter(Predicate<T> p, Supplier<? extends Throwable> error);
+
 
     /**
      * Returns the value from <b>this</b> Success or the given default argument if <b>this</b> is a Failure.
@@ -194,9 +467,10 @@ public interface Try<T> {
     T get() throws Throwable;
 
     /**
-     * Returns an optional value from the try. If <b>this</b> is Failure, it returns {@link Optional#empty()}
+     * Returns an optional value from the try. If <b>this</b> is Failure, or a Success holding {@code null} such as
+     * {@link #unit()}, it returns {@link Optional#empty()}
      *
-     * @return Optional with the current value or empty if Failure
+     * @return Optional with the current value or empty if Failure or null
      */
     Optional<T> toOptional();
 }
@@ -0,0 +1,274 @@
+package com.acepero13.functionalaids.try2;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded memoizing wrapper around a function returning a Try.
+ * <p>
+ * Successes and failures are kept for different times, so a failure can be cached briefly (negative caching) without
+ * keeping a failing backend out of service for long. Concurrent callers asking for the same missing key wait for a
+ * single evaluation of the loader instead of all calling it. When the cache grows beyond its maximum size, entries are
+ * evicted with the CLOCK algorithm, an approximation of LRU which only sets a flag on a hit, and only when it is not
+ * already set: an entry read since the clock hand last passed it gets a second chance, the others are evicted.
+ * <p>
+ * The loader must not ask the same cache for the key it is loading, since it would wait for itself.
+ *
+ * <pre>
+ *     TryCache[String, User] users = TryCache.memoize(id -- Try.of(() -- repository.load(id)));
+ *     Try[User] user = users.apply("42");
+ * </pre>
+ *
+ * @param <K> Type of the keys
+ * @param <V> Type of the values
+ */
+public final class TryCache<K, V> implements Function<K, Try<V>> {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_SUCCESS_TTL = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_FAILURE_TTL = Duration.ofSeconds(1);
+
+    private final Function<K, Try<V>> loader;
+    private final int maximumSize;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, V>> clockQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    TryCache(Function<K, Try<V>> loader, int maximumSize, Duration successTtl, Duration failureTtl,
+             LongSupplier clock) {
+        Objects.requireNonNull(loader);
+        Objects.requireNonNull(successTtl);
+        Objects.requireNonNull(failureTtl);
+        Objects.requireNonNull(clock);
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        if (successTtl.isNegative() || failureTtl.isNegative()) {
+            throw new IllegalArgumentException("TTLs must not be negative");
+        }
+        this.loader = loader;
+        this.maximumSize = maximumSize;
+        this.successTtlNanos = toNanos(successTtl);
+        this.failureTtlNanos = toNanos(failureTtl);
+        this.clock = clock;
+    }
+
+    /**
+     * Memoizes <i>loader</i> with up to 10 000 entries, keeping successes for 10 minutes and failures for 1 second.
+     *
+     * @param loader the function to be memoized
+     * @param <K>    Type of the keys
+     * @param <V>    Type of the values
+     * @return a new cache
+     */
+    public static <K, V> TryCache<K, V> memoize(Function<K, Try<V>> loader) {
+        return memoize(loader, DEFAULT_MAXIMUM_SIZE, DEFAULT_SUCCESS_TTL, DEFAULT_FAILURE_TTL);
+    }
+
+    /**
+     * Memoizes <i>loader</i>.
+     *
+     * @param loader      the function to be memoized
+     * @param maximumSize number of entries above which the least recently used ones are evicted
+     * @param successTtl  how long a Success is kept
+     * @param failureTtl  how long a Failure is kept, zero to never keep failures
+     * @param <K>         Type of the keys
+     * @param <V>         Type of the values
+     * @return a new cache
+     */
+    public static <K, V> TryCache<K, V> memoize(Function<K, Try<V>> loader, int maximumSize, Duration successTtl,
+                                                Duration failureTtl) {
+        return new TryCache<>(loader, maximumSize, successTtl, failureTtl, System::nanoTime);
+    }
+
+    /**
+     * Returns the cached outcome for <i>key</i>, evaluating the loader if there is none or it expired. An exception
+     * thrown by the loader, even a checked one thrown sneakily, is returned as a Failure like in {@link Try#of}. An
+     * error is rethrown to the caller, and callers waiting for the same key get it wrapped in a
+     * {@link java.util.concurrent.CompletionException}.
+     *
+     * @param key the key to look up
+     * @return the outcome of the loader for that key
+     */
+    @Override
+    public Try<V> apply(K key) {
+        Objects.requireNonNull(key);
+        while (true) {
+            Entry<K, V> entry = entries.get(key);
+            if (entry == null) {
+                Entry<K, V> loading = new Entry<>(key);
+                entry = entries.putIfAbsent(key, loading);
+                if (entry == null) {
+                    return load(loading);
+                }
+            }
+            if (!entry.future.isDone()) {
+                hits.increment();
+                return entry.future.join();
+            }
+            if (clock.getAsLong() - entry.expiresAt < 0) {
+                hits.increment();
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                return entry.future.join();
+            }
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Discards the cached outcome for <i>key</i>, if any.
+     *
+     * @param key the key to discard
+     */
+    public void invalidate(K key) {
+        Objects.requireNonNull(key);
+        entries.remove(key);
+    }
+
+    /**
+     * Discards all the cached outcomes.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Number of entries currently held, including expired entries not yet discarded and evaluations in flight.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of calls answered from the cache, including calls which waited for an evaluation in flight.
+     *
+     * @return the number of hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of calls which evaluated the loader.
+     *
+     * @return the number of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of entries evicted because the cache was full.
+     *
+     * @return the number of evictions
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private Try<V> load(Entry<K, V> entry) {
+        misses.increment();
+        Try<V> result;
+        try {
+            result = Objects.requireNonNull(loader.apply(entry.key), "loader returned null");
+        } catch (Exception e) {
+            result = Try.failure(e);
+        } catch (Throwable t) {
+            entries.remove(entry.key, entry);
+            entry.future.completeExceptionally(t);
+            throw t;
+        }
+        long ttl = result.isSuccess() ? successTtlNanos : failureTtlNanos;
+        entry.expiresAt = clock.getAsLong() + ttl;
+        entry.future.complete(result);
+        if (ttl == 0) {
+            entries.remove(entry.key, entry);
+        } else {
+            clockQueue.offer(entry);
+            queued.incrementAndGet();
+            evictIfNeeded();
+        }
+        return result;
+    }
+
+    /**
+     * Moves the clock hand until the cache fits. Entries no longer in the map are dropped from the queue on the way,
+     * so it never holds more than twice the maximum size. A single thread evicts at a time; the others carry on, so
+     * the size may briefly exceed the maximum.
+     */
+    private void evictIfNeeded() {
+        if (!needsEviction() || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int budget = 2 * queued.get();
+            while (needsEviction() && budget-- > 0) {
+                Entry<K, V> entry = clockQueue.poll();
+                if (entry == null) {
+                    return;
+                }
+                if (entries.get(entry.key) != entry) {
+                    queued.decrementAndGet();
+                } else if (entry.referenced) {
+                    entry.referenced = false;
+                    clockQueue.offer(entry);
+                } else {
+                    queued.decrementAndGet();
+                    if (entries.remove(entry.key, entry)) {
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean needsEviction() {
+        return entries.size() > maximumSize || queued.get() > 2 * maximumSize;
+    }
+
+    /**
+     * Expiry times are compared by difference, like {@link System#nanoTime()}, so a TTL of up to
+     * {@link Long#MAX_VALUE} nanoseconds never overflows.
+     */
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final CompletableFuture<Try<V>> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+        private volatile boolean referenced;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.acepero13.functionalaids.try2;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops evaluating a computation while it keeps failing, returning a cheap Failure instead.
+ * <p>
+ * The breaker starts <b>closed</b>: computations are evaluated and their outcomes counted over a rolling window.
+ * When at least {@code minimumCalls} outcomes were counted in the window and the failure rate reaches the threshold,
+ * it <b>opens</b>: for {@code openDuration} every call returns a preallocated Failure holding the shared
+ * {@link CircuitOpenException}, without evaluating anything. After that it lets a single probe through
+ * (<b>half-open</b>); the breaker closes if the probe succeeds and opens again otherwise.
+ * <p>
+ * The window is a ring of buckets with striped counters, and the state is a single atomic integer, so no lock is
+ * taken on any path. The counts are approximate: an outcome recorded at the exact moment its bucket is recycled may be
+ * lost. A success only increments a counter; the failure rate is computed on failures, by at most one caller per
+ * millisecond, so the breaker may open up to a millisecond after the threshold was reached.
+ *
+ * <pre>
+ *     TryCircuitBreaker breaker = TryCircuitBreaker.of(0.5, 20, Duration.ofSeconds(10), Duration.ofSeconds(5));
+ *     Try[Response] response = breaker.of(() -- client.call());
+ * </pre>
+ */
+public final class TryCircuitBreaker {
+
+    /**
+     * States of a circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int BUCKETS = 10;
+    private static final long UNUSED = Long.MIN_VALUE;
+    private static final long SCAN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Try<?> REJECTED = Try.failure(CircuitOpenException.instance());
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final long scanNanos;
+    private final LongSupplier clock;
+
+    private final Bucket[] buckets = new Bucket[BUCKETS];
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong nextScan;
+    private volatile long openedAt;
+
+    TryCircuitBreaker(double failureRateThreshold, int minimumCalls, Duration window, Duration openDuration,
+                      long scanNanos, LongSupplier clock) {
+        Objects.requireNonNull(window);
+        Objects.requireNonNull(openDuration);
+        Objects.requireNonNull(clock);
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+        }
+        if (minimumCalls < 1) {
+            throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+        }
+        if (window.toNanos() < BUCKETS || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("window and openDuration must be positive");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.bucketNanos = window.toNanos() / BUCKETS;
+        this.openNanos = openDuration.toNanos();
+        this.scanNanos = Math.min(scanNanos, bucketNanos);
+        this.clock = clock;
+        this.nextScan = new AtomicLong(clock.getAsLong());
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * Creates a closed circuit breaker.
+     *
+     * @param failureRateThreshold failure rate, in (0, 1], at which the breaker opens
+     * @param minimumCalls         number of outcomes needed in the window before the failure rate is considered
+     * @param window               duration of the rolling window in which outcomes are counted
+     * @param openDuration         how long the breaker stays open before letting a probe through
+     * @return a new circuit breaker
+     */
+    public static TryCircuitBreaker of(double failureRateThreshold, int minimumCalls, Duration window,
+                                       Duration openDuration) {
+        return new TryCircuitBreaker(failureRateThreshold, minimumCalls, window, openDuration, SCAN_INTERVAL_NANOS,
+                System::nanoTime);
+    }
+
+    /**
+     * Evaluates <i>ofThrowable</i> like {@link Try#of(Supplier)} if the breaker allows it, or returns a Failure holding
+     * {@link CircuitOpenException} otherwise.
+     *
+     * @param ofThrowable an instance to be evaluated which may raise an exception
+     * @param <T>         The type to be wrapped
+     * @return the outcome of the evaluation, or a Failure if the call was rejected
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Try<T> of(Supplier<T> ofThrowable) {
+        Objects.requireNonNull(ofThrowable);
+        int current = state.get();
+        if (current == CLOSED) {
+            Try<T> result = Try.of(ofThrowable);
+            record(result.isSuccess());
+            return result;
+        }
+        if (current == OPEN && clock.getAsLong() - openedAt >= openNanos && state.compareAndSet(OPEN, HALF_OPEN)) {
+            return probe(ofThrowable);
+        }
+        rejected.increment();
+        return (Try<T>) REJECTED;
+    }
+
+    /**
+     * The current state of the breaker.
+     *
+     * @return the state
+     */
+    public State state() {
+        return State.values()[state.get()];
+    }
+
+    /**
+     * Number of calls rejected because the breaker was open or a probe was in flight.
+     *
+     * @return the number of rejected calls
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private <T> Try<T> probe(Supplier<T> ofThrowable) {
+        Try<T> result;
+        try {
+            result = Try.of(ofThrowable);
+        } catch (RuntimeException | Error e) {
+            trip();
+            throw e;
+        }
+        if (result.isSuccess()) {
+            for (Bucket bucket : buckets) {
+                bucket.clear();
+            }
+            state.set(CLOSED);
+        } else {
+            trip();
+        }
+        return result;
+    }
+
+    private void trip() {
+        openedAt = clock.getAsLong();
+        state.set(OPEN);
+    }
+
+    private void record(boolean success) {
+        long now = clock.getAsLong();
+        long tick = now / bucketNanos;
+        Bucket bucket = buckets[(int) Math.floorMod(tick, (long) BUCKETS)];
+        bucket.roll(tick);
+        if (success) {
+            bucket.successes.increment();
+            return;
+        }
+        bucket.failures.increment();
+        if (claimScan(now) && shouldOpen(tick)) {
+            openedAt = now;
+            state.compareAndSet(CLOSED, OPEN);
+        }
+    }
+
+    /**
+     * Lets a single failing caller per scan interval sum the window, so a burst of failures on many cores does not
+     * turn into as many scans of every bucket.
+     */
+    private boolean claimScan(long now) {
+        long next = nextScan.get();
+        return now - next >= 0 && nextScan.compareAndSet(next, now + scanNanos);
+    }
+
+    private boolean shouldOpen(long tick) {
+        long failures = 0;
+        long calls = 0;
+        for (Bucket bucket : buckets) {
+            long epoch = bucket.epoch;
+            if (epoch != UNUSED && tick - epoch < BUCKETS) {
+                long bucketFailures = bucket.failures.sum();
+                failures += bucketFailures;
+                calls += bucketFailures + bucket.successes.sum();
+            }
+        }
+        return calls >= minimumCalls && failures >= failureRateThreshold * calls;
+    }
+
+    private static final class Bucket {
+        private static final AtomicLongFieldUpdater<Bucket> EPOCH =
+                AtomicLongFieldUpdater.newUpdater(Bucket.class, "epoch");
+
+        private volatile long epoch = UNUSED;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        /**
+         * Makes this bucket count the given tick, discarding the counts of an older tick it was used for. Buckets
+         * never move back in time, so a late caller with an older tick just counts in the newer one.
+         */
+        private void roll(long tick) {
+            long current = epoch;
+            if (current < tick && EPOCH.compareAndSet(this, current, tick)) {
+                successes.reset();
+                failures.reset();
+            }
+        }
+
+        private void clear() {
+            epoch = UNUSED;
+            successes.reset();
+            failures.reset();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.acepero13.functionalaids.try2;
+
+import com.acepero13.functionalaids.tuple.Tuple2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Collectors for streams of {@link Try}.
+ * <p>
+ * Their combiners are associative and keep the encounter order, so they give the same result on parallel streams.
+ */
+public final class TryCollectors {
+
+    private TryCollectors() {
+    }
+
+    /**
+     * Splits the successful values from the errors of the failures in a single pass.
+     *
+     * <pre>
+     *     Tuple2[List[Integer], List[Throwable]] parsed = lines.parallelStream()
+     *             .map(l -- Try.of(() -- Integer.parseInt(l)))
+     *             .collect(TryCollectors.partition());
+     * </pre>
+     *
+     * @param <T> Type of the values
+     * @return a collector returning the values of the successes first and the errors of the failures second
+     */
+    public static <T> Collector<Try<T>, ?, Tuple2<List<T>, List<Throwable>>> partition() {
+        return Collector.of(
+                Partition<T>::new,
+                Partition::add,
+                Partition::combine,
+                p -> Tuple2.of(p.values, p.errors));
+    }
+
+    /**
+     * Turns a stream of Try into a Try of all the values, or the first Failure in encounter order.
+     * Once a Failure has been found the remaining elements are ignored instead of being accumulated.
+     *
+     * @param <T> Type of the values
+     * @return a collector returning a Success with all the values, or the first Failure
+     */
+    public static <T> Collector<Try<T>, ?, Try<List<T>>> sequence() {
+        return Collector.of(
+                Sequence<T>::new,
+                Sequence::add,
+                Sequence::combine,
+                Sequence::result);
+    }
+
+    private static final class Partition<T> {
+        private final List<T> values = new ArrayList<>();
+        private final List<Throwable> errors = new ArrayList<>();
+
+        private void add(Try<T> element) {
+            element.ifSuccess(values::add);
+            element.ifFailure(errors::add);
+        }
+
+        private Partition<T> combine(Partition<T> other) {
+            values.addAll(other.values);
+            errors.addAll(other.errors);
+            return this;
+        }
+    }
+
+    private static final class Sequence<T> {
+        private List<T> values = new ArrayList<>();
+        private Try<T> failure;
+
+        private void add(Try<T> element) {
+            if (failure != null) {
+                return;
+            }
+            if (element.isFailure()) {
+                failure = element;
+                values = null;
+            } else {
+                element.ifSuccess(values::add);
+            }
+        }
+
+        private Sequence<T> combine(Sequence<T> other) {
+            if (failure == null) {
+                if (other.failure != null) {
+                    failure = other.failure;
+                    values = null;
+                } else {
+                    values.addAll(other.values);
+                }
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Try<List<T>> result() {
+            return failure != null
+                    ? (Try<List<T>>) (Try<?>) failure
+                    : Try.success(values);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.function.Supplier;
+
+/**
+ * Emits Java Flight Recorder events when Flight Recorder is recording them.
+ * <p>
+ * The events are compiled for Java 11 and shipped in the versioned part of the multi-release jar, so this class only
+ * knows them through {@link Recorder} and loads them by name. On JVMs without Flight Recorder, or older than Java 11,
+ * they are never loaded and {@link #isRecording()} is always false. When the event is not being recorded, the only
+ * cost for the caller is the {@link #isRecording()} check: no event is allocated and the computation is evaluated as
+ * usual.
+ */
+final class TryEvents {
+
+    private static final String RECORDER = "com.acepero13.functionalaids.try2.TryEvaluationRecorder";
+    private static final Recorder INSTANCE = loadRecorder();
+
+    private TryEvents() {
+    }
+
+    static boolean isRecording() {
+        return INSTANCE != null && INSTANCE.isRecording();
+    }
+
+    /**
+     * Evaluates the computation like {@link Try#of(Supplier)}, recording an event with its duration and outcome.
+     * Must only be called when {@link #isRecording()} returned true.
+     */
+    static <T> Try<T> evaluate(String name, Supplier<T> ofThrowable) {
+        return INSTANCE.evaluate(name, ofThrowable);
+    }
+
+    private static Recorder loadRecorder() {
+        ClassLoader loader = TryEvents.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, loader);
+            return (Recorder) Class.forName(RECORDER, true, loader).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Records the evaluation of computations, implemented with the Flight Recorder API.
+     */
+    interface Recorder {
+        boolean isRecording();
+
+        <T> Try<T> evaluate(String name, Supplier<T> ofThrowable);
+    }
+}
@@ -0,0 +1,37 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used by the concurrent combinators of {@link Try} when the caller does not provide one.
+ */
+final class TryExecutors {
+
+    private static final ExecutorService DEFAULT = create();
+
+    private TryExecutors() {
+    }
+
+    /**
+     * Returns an executor starting one virtual thread per task when the running JVM supports them, or a shared pool
+     * of cached daemon platform threads otherwise.
+     */
+    static ExecutorService defaultExecutor() {
+        return DEFAULT;
+    }
+
+    private static ExecutorService create() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "functional-aids-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The asynchronous counterpart of {@link Try}: a computation running in the background that will either result in an
+ * exception, or a successfully computed value.
+ * <p>
+ * All the operations are non-blocking and are applied once the computation completes. Exceptions raised by the
+ * computation or by any of the given functions end up as a Failure, they are never thrown to the caller. Only
+ * {@link #await()} blocks the calling thread.
+ *
+ * @param <T> Type of the value
+ */
+public interface TryFuture<T> {
+
+    /**
+     * Runs <i>ofThrowable</i> in the given executor.
+     *
+     * @param ofThrowable an instance to be evaluated which may raise an exception. See {@link Try#of(Supplier)}
+     * @param executor    the executor running the computation
+     * @param <T>         The type to be wrapped
+     * @return A TryFuture completing with Success or Failure depending on the evaluation of <i>ofThrowable</i>
+     */
+    static <T> TryFuture<T> of(Supplier<T> ofThrowable, Executor executor) {
+        return TryFutureImpl.of(ofThrowable, executor);
+    }
+
+    /**
+     * Converts a CompletionStage into a TryFuture. A stage completing exceptionally results in a Failure holding the
+     * cause of the exception.
+     *
+     * @param stage the stage to be converted
+     * @param <T>   The type to be wrapped
+     * @return A TryFuture completing when <i>stage</i> completes
+     */
+    static <T> TryFuture<T> fromStage(CompletionStage<T> stage) {
+        return TryFutureImpl.fromStage(stage);
+    }
+
+    /**
+     * Returns an already completed TryFuture.
+     *
+     * @param value the outcome of the future
+     * @param <T>   The type to be wrapped
+     * @return A completed TryFuture
+     */
+    static <T> TryFuture<T> completed(Try<T> value) {
+        return TryFutureImpl.completed(value);
+    }
+
+    /**
+     * Maps the given function to the value once <b>this</b> completes with a Success.
+     *
+     * @param mapper function to be applied
+     * @param <U>    Type of the function's result
+     * @return a new TryFuture completing with the value calculated by mapper
+     */
+    <U> TryFuture<U> map(Function<? super T, ? extends U> mapper);
+
+    /**
+     * Chains the given asynchronous function once <b>this</b> completes with a Success.
+     *
+     * @param mapper function to be applied
+     * @param <U>    Type of the function's result
+     * @return a new TryFuture completing when the one returned by mapper completes
+     */
+    <U> TryFuture<U> flatMap(Function<? super T, ? extends TryFuture<U>> mapper);
+
+    /**
+     * Continues with the given TryFuture if <b>this</b> completes with a Failure.
+     *
+     * @param or  supplier of the fallback
+     * @param <U> Type of the value
+     * @return <b>this</b> outcome if Success, the fallback otherwise
+     */
+    <U> TryFuture<U> orElse(Supplier<TryFuture<? extends U>> or);
+
+    /**
+     * Converts the outcome to a Failure if the predicate is not satisfied.
+     *
+     * @param p Predicate
+     * @return a new TryFuture with the filtered outcome
+     * @see Try#filter(Predicate)
+     */
+    TryFuture<T> filter(Predicate<T> p);
+
+    /**
+     * Converts the outcome to a Failure holding the given error if the predicate is not satisfied.
+     *
+     * @param p     Predicate
+     * @param error the error of the failure in case the predicate does not hold
+     * @return a new TryFuture with the filtered outcome
+     * @see Try#filter(Predicate, Supplier)
+     */
+    TryFuture<T> filter(Predicate<T> p, Supplier<? extends Throwable> error);
+
+    /**
+     * Applies fFail if <b>this</b> completes with a Failure or fSuccess if it completes with a Success.
+     *
+     * @param fFail    function to apply in case of a Failure
+     * @param fSuccess function to apply in case of a Success
+     * @param <U>      return type
+     * @return a stage completing with the value after applying either function
+     */
+    <U> CompletionStage<U> fold(Function<Throwable, U> fFail, Function<T, U> fSuccess);
+
+    /**
+     * Executes the given side effect function once <b>this</b> completes.
+     *
+     * @param consumer function to apply to the outcome
+     */
+    void onComplete(Consumer<Try<T>> consumer);
+
+    /**
+     * Returns true if <b>this</b> has completed.
+     *
+     * @return true if the outcome is available, false otherwise
+     */
+    boolean isDone();
+
+    /**
+     * Returns a stage completing with the outcome of <b>this</b>. The stage never completes exceptionally. It is a
+     * dependent copy, so completing it does not change the outcome of <b>this</b> or of the stages derived from it.
+     *
+     * @return the outcome as a CompletionStage
+     */
+    CompletionStage<Try<T>> toCompletionStage();
+
+    /**
+     * Blocks until <b>this</b> completes and returns its outcome. If the calling thread is interrupted while
+     * waiting, a Failure holding the {@link InterruptedException} is returned and the interrupt flag is restored.
+     *
+     * @return the outcome of the computation
+     */
+    Try<T> await();
+}
@@ -0,0 +1,125 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+final class TryFutureImpl<T> implements TryFuture<T> {
+
+    private final CompletableFuture<Try<T>> future;
+
+    private TryFutureImpl(CompletableFuture<Try<T>> future) {
+        this.future = future;
+    }
+
+    static <T> TryFuture<T> of(Supplier<T> ofThrowable, Executor executor) {
+        Objects.requireNonNull(ofThrowable);
+        Objects.requireNonNull(executor);
+        return new TryFutureImpl<>(CompletableFuture.supplyAsync(() -> Try.of(ofThrowable), executor));
+    }
+
+    static <T> TryFuture<T> fromStage(CompletionStage<T> stage) {
+        Objects.requireNonNull(stage);
+        return new TryFutureImpl<>(stage.handle((value, error) -> error == null
+                ? Try.success(value)
+                : Try.<T>failure(unwrap(error)))
+                .toCompletableFuture());
+    }
+
+    static <T> TryFuture<T> completed(Try<T> value) {
+        Objects.requireNonNull(value);
+        return new TryFutureImpl<>(CompletableFuture.completedFuture(value));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return (error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null
+                ? error.getCause()
+                : error;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> CompletableFuture<Try<U>> stageOf(TryFuture<? extends U> other) {
+        CompletionStage<?> stage = other instanceof TryFutureImpl
+                ? ((TryFutureImpl<?>) other).future
+                : other.toCompletionStage();
+        return (CompletableFuture<Try<U>>) stage.toCompletableFuture();
+    }
+
+    @Override
+    public <U> TryFuture<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return new TryFutureImpl<>(future.thenApply(t -> t.flatMap(value -> Try.of(() -> mapper.apply(value)))));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> TryFuture<U> flatMap(Function<? super T, ? extends TryFuture<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return new TryFutureImpl<>(future.thenCompose(t -> t.isFailure()
+                ? CompletableFuture.completedFuture((Try<U>) t)
+                : Try.of(() -> Objects.requireNonNull(mapper.apply(t.getSilent()), "flatMap returned null"))
+                .fold(error -> CompletableFuture.completedFuture(Try.<U>failure(error)), TryFutureImpl::stageOf)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> TryFuture<U> orElse(Supplier<TryFuture<? extends U>> or) {
+        Objects.requireNonNull(or);
+        return new TryFutureImpl<>(future.thenCompose(t -> t.isSuccess()
+                ? CompletableFuture.completedFuture((Try<U>) t)
+                : Try.of(() -> Objects.requireNonNull(or.get(), "orElse returned null"))
+                .fold(error -> CompletableFuture.completedFuture(Try.<U>failure(error)), TryFutureImpl::stageOf)));
+    }
+
+    @Override
+    public TryFuture<T> filter(Predicate<T> p) {
+        Objects.requireNonNull(p);
+        return new TryFutureImpl<>(future.thenApply(t -> Try.of(() -> t.filter(p)).flatMap(Function.identity())));
+    }
+
+    @Override
+    public TryFuture<T> filter(Predicate<T> p, Supplier<? extends Throwable> error) {
+        Objects.requireNonNull(p);
+        return new TryFutureImpl<>(future.thenApply(t -> Try.of(() -> t.filter(p, error)).flatMap(Function.identity())));
+    }
+
+    @Override
+    public <U> CompletionStage<U> fold(Function<Throwable, U> fFail, Function<T, U> fSuccess) {
+        return future.thenApply(t -> t.fold(fFail, fSuccess));
+    }
+
+    @Override
+    public void onComplete(Consumer<Try<T>> consumer) {
+        Objects.requireNonNull(consumer);
+        future.thenAccept(consumer);
+    }
+
+    @Override
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @Override
+    public CompletionStage<Try<T>> toCompletionStage() {
+        return future.thenApply(Function.identity());
+    }
+
+    @Override
+    public Try<T> await() {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (ExecutionException e) {
+            return Try.failure(unwrap(e));
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.acepero13.functionalaids.try2;
 
+import com.acepero13.functionalaids.internal.CanonicalValues;
+
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 final class TryImpl {
+    /**
+     * Canonical instances of frequently produced successes, so producing them does not allocate.
+     */
+    private static final CanonicalValues<Success<?>> CANONICAL = new CanonicalValues<>(Success::new);
+
     private TryImpl() {
     }
 
@@ -15,8 +25,18 @@ final class TryImpl {
         return new Failure<>(error);
     }
 
+    public static <T> Try<T> failure(Throwable error) {
+        return new Failure<>(error);
+    }
+
+    @SuppressWarnings("unchecked")
     public static <T> Try<T> success(T value) {
-        return new Success<>(value);
+        Success<?> cached = CANONICAL.lookup(value);
+        return cached != null ? (Try<T>) cached : new Success<>(value);
+    }
+
+    public static Try<Void> unit() {
+        return success(null);
     }
 
     private static class Success<T> implements Try<T> {
@@ -30,7 +50,25 @@ final class TryImpl {
         @Override
         public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
             Objects.requireNonNull(mapper);
-            return new Success<>(mapper.apply(value));
+            return success(mapper.apply(value));
+        }
+
+        @Override
+        public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+            Objects.requireNonNull(mapper);
+            return IntTry.success(mapper.applyAsInt(value));
+        }
+
+        @Override
+        public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+            Objects.requireNonNull(mapper);
+            return LongTry.success(mapper.applyAsLong(value));
+        }
+
+        @Override
+        public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+            Objects.requireNonNull(mapper);
+            return DoubleTry.success(mapper.applyAsDouble(value));
         }
 
         @Override
@@ -47,9 +85,18 @@ final class TryImpl {
 
         @Override
         public Try<T> filter(Predicate<T> p) {
+            Objects.requireNonNull(p);
             return p.test(value)
                     ? this
-                    : new Failure<>(() -> new Exception("Predicate not satisfied"));
+                    : new Failure<>(PredicateFailedException.instance());
+        }
+
+        @Override
+        public Try<T> filter(Predicate<T> p, Supplier<? extends Throwable> error) {
+            Objects.requireNonNull(p);
+            return p.test(value)
+                    ? this
+                    : new Failure<>(error);
         }
 
         @Override
@@ -107,15 +154,16 @@ final class TryImpl {
 
         @Override
         public Optional<T> toOptional() {
-            return Optional.of(value);
+            return Optional.ofNullable(value);
         }
 
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
+            if (o instanceof LazyTry) return o.equals(this);
             if (!(o instanceof Success)) return false;
             Success<?> success = (Success<?>) o;
-            return value.equals(success.value);
+            return Objects.equals(value, success.value);
         }
 
         @Override
@@ -124,15 +172,40 @@ final class TryImpl {
         }
     }
 
-    private static class Failure<T, E extends Throwable> implements Try<T> {
+    private static class Failure<T> implements Try<T> {
 
-        private final Supplier<E> errSupplier;
+        private volatile Throwable error;
+        private Supplier<? extends Throwable> errSupplier;
+
+        private Failure(Throwable error) {
+            Objects.requireNonNull(error);
+            this.error = error;
+        }
 
-        private Failure(Supplier<E> errSupplier) {
+        private Failure(Supplier<? extends Throwable> errSupplier) {
             Objects.requireNonNull(errSupplier);
             this.errSupplier = errSupplier;
         }
 
+        /**
+         * Returns the error of this failure. A deferred error is requested from its supplier only once, even if
+         * several threads ask for it at the same time.
+         */
+        private Throwable error() {
+            Throwable result = error;
+            if (result == null) {
+                synchronized (this) {
+                    result = error;
+                    if (result == null) {
+                        result = Objects.requireNonNull(errSupplier.get(), "error supplier returned null");
+                        error = result;
+                        errSupplier = null;
+                    }
+                }
+            }
+            return result;
+        }
+
 
         @Override
         @SuppressWarnings("unchecked")
@@ -140,6 +213,21 @@ final class TryImpl {
             return (Try<U>) this;
         }
 
+        @Override
+        public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+            return IntTry.failure(error());
+        }
+
+        @Override
+        public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+            return LongTry.failure(error());
+        }
+
+        @Override
+        public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+            return DoubleTry.failure(error());
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public <U> Try<U> flatMap(Function<? super T, ? extends Try<U>> mapper) {
@@ -158,6 +246,11 @@ final class TryImpl {
             return this;
         }
 
+        @Override
+        public Try<T> filter(Predicate<T> p, Supplier<? extends Throwable> error) {
+            return this;
+        }
+
         @Override
         public <U extends T> U getOrElse(Supplier<U> or) {
             Objects.requireNonNull(or);
@@ -172,13 +265,13 @@ final class TryImpl {
         @Override
         public <U> U fold(Function<Throwable, U> fFail, Function<T, U> fSuccess) {
             Objects.requireNonNull(fFail);
-            return fFail.apply(errSupplier.get());
+            return fFail.apply(error());
         }
 
         @Override
         public <U> Optional<U> foldOptional(Function<Throwable, U> fFail, Function<T, U> fSuccess) {
             Objects.requireNonNull(fFail);
-            return Optional.ofNullable(fFail.apply(errSupplier.get()));
+            return Optional.ofNullable(fFail.apply(error()));
         }
 
         @Override
@@ -199,17 +292,17 @@ final class TryImpl {
         @Override
         public void ifFailure(Consumer<Throwable> consumer) {
             Objects.requireNonNull(consumer);
-            consumer.accept(errSupplier.get());
+            consumer.accept(error());
         }
 
         @Override
         public T getSilent() throws RuntimeException {
-            throw new RuntimeException(errSupplier.get());
+            throw new RuntimeException(error());
         }
 
         @Override
         public T get() throws Throwable {
-            throw errSupplier.get();
+            throw error();
         }
 
         @Override
@@ -219,13 +312,13 @@ final class TryImpl {
 
         @Override
         public boolean equals(Object o) {
-            return this == o;
+            return this == o || o instanceof LazyTry && o.equals(this);
 
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(errSupplier);
+            return System.identityHashCode(this);
         }
     }
 }
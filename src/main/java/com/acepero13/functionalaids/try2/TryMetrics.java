@@ -0,0 +1,182 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in outcome counters for named computations evaluated with {@link Try#of(String, Supplier)}.
+ * <p>
+ * Metrics are disabled by default: until {@link #enable()} is called a named computation costs a single volatile
+ * read on top of {@link Try#of(Supplier)}. Once enabled, each name is a {@link Site} counting successes, failures and
+ * failures per exception class with striped {@link LongAdder}s, so recording does not become a contention point.
+ * The counters are read in place: reading them does not allocate snapshot objects.
+ */
+public final class TryMetrics {
+
+    private static final ConcurrentMap<String, Site> SITES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private TryMetrics() {
+    }
+
+    /**
+     * Starts recording the outcome of named computations.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Stops recording the outcome of named computations. The counters recorded so far are kept.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Returns true if outcomes are being recorded.
+     *
+     * @return true if metrics are enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the counters of the given name, creating them if needed. Keeping the site in a field and calling
+     * {@link Site#of(Supplier)} avoids looking the name up on every call.
+     *
+     * @param name the name of the computation
+     * @return the counters of the name
+     */
+    public static Site site(String name) {
+        Objects.requireNonNull(name);
+        Site site = SITES.get(name);
+        return site != null ? site : SITES.computeIfAbsent(name, Site::new);
+    }
+
+    /**
+     * Visits the counters of every name recorded so far.
+     *
+     * @param visitor function to apply to every site
+     */
+    public static void forEach(Consumer<Site> visitor) {
+        Objects.requireNonNull(visitor);
+        SITES.values().forEach(visitor);
+    }
+
+    /**
+     * Sets the counters of every name back to zero.
+     */
+    public static void reset() {
+        SITES.values().forEach(Site::reset);
+    }
+
+    /**
+     * The outcome counters of a named computation.
+     */
+    public static final class Site {
+        private final String name;
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final ConcurrentMap<Class<? extends Throwable>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+
+        private Site(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Evaluates the given computation like {@link Try#of(Supplier)}, recording its outcome if metrics are enabled.
+         *
+         * @param ofThrowable an instance to be evaluated which may raise an exception
+         * @param <T>         The type to be wrapped
+         * @return An instance of Success or Failure depending on whether the evaluation was successful or not
+         */
+        public <T> Try<T> of(Supplier<T> ofThrowable) {
+            Try<T> result = TryEvents.isRecording()
+                    ? TryEvents.evaluate(name, ofThrowable)
+                    : Try.of(ofThrowable);
+            if (enabled) {
+                record(result);
+            }
+            return result;
+        }
+
+        private void record(Try<?> result) {
+            if (result.isSuccess()) {
+                successes.increment();
+                return;
+            }
+            Class<? extends Throwable> type = result.fold(Throwable::getClass, value -> null);
+            failures.increment();
+            LongAdder counter = failuresByType.get(type);
+            if (counter == null) {
+                counter = failuresByType.computeIfAbsent(type, t -> new LongAdder());
+            }
+            counter.increment();
+        }
+
+        /**
+         * The name of the computation.
+         *
+         * @return the name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Number of evaluations that resulted in a Success.
+         *
+         * @return the number of successes
+         */
+        public long successes() {
+            return successes.sum();
+        }
+
+        /**
+         * Number of evaluations that resulted in a Failure.
+         *
+         * @return the number of failures
+         */
+        public long failures() {
+            return failures.sum();
+        }
+
+        /**
+         * Number of evaluations that failed with exactly the given exception class.
+         *
+         * @param type the exception class
+         * @return the number of failures of that class
+         */
+        public long failures(Class<? extends Throwable> type) {
+            LongAdder counter = failuresByType.get(type);
+            return counter != null ? counter.sum() : 0L;
+        }
+
+        /**
+         * Visits the number of failures of every exception class recorded so far.
+         *
+         * @param consumer function receiving each exception class and its number of failures
+         */
+        public void forEachFailureType(ObjLongConsumer<Class<? extends Throwable>> consumer) {
+            Objects.requireNonNull(consumer);
+            failuresByType.forEach((type, counter) -> consumer.accept(type, counter.sum()));
+        }
+
+        /**
+         * Sets the counters back to zero.
+         */
+        public void reset() {
+            successes.reset();
+            failures.reset();
+            failuresByType.values().forEach(LongAdder::reset);
+        }
+    }
+}
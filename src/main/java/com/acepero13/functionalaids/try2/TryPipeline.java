@@ -0,0 +1,165 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A sequence of {@code map}, {@code filter} and {@code flatMap} stages composed once and then applied to many values.
+ * <p>
+ * Applying a pipeline gives the same outcome as chaining the same operations on {@code Try.success(input)}, but only
+ * the final Try is created: intermediate values are passed from stage to stage without being wrapped, and the first
+ * stage that fails short-circuits the rest. Pipelines are immutable and can be shared between threads.
+ *
+ * <pre>
+ *     TryPipeline[String, Integer] parse = TryPipeline.[String]start()
+ *             .map(String::trim)
+ *             .filter(s -- !s.isEmpty())
+ *             .map(Integer::parseInt);
+ *
+ *     lines.stream().map(parse::apply)
+ * </pre>
+ *
+ * @param <T> Type of the input of the pipeline
+ * @param <R> Type of the value of the resulting Try
+ */
+public final class TryPipeline<T, R> {
+
+    private static final Stage[] NO_STAGES = new Stage[0];
+    private static final Halt FILTERED = new Halt(Try.failure(PredicateFailedException.instance()));
+
+    private final Stage[] stages;
+
+    private TryPipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Returns an empty pipeline, which wraps its input in a Success.
+     *
+     * @param <T> Type of the input of the pipeline
+     * @return a pipeline without stages
+     */
+    public static <T> TryPipeline<T, T> start() {
+        return new TryPipeline<>(NO_STAGES);
+    }
+
+    /**
+     * Appends a stage mapping the value. See {@link Try#map(Function)}.
+     *
+     * @param mapper function to be applied
+     * @param <U>    Type of the function's result
+     * @return a new pipeline with the stage appended
+     */
+    @SuppressWarnings("unchecked")
+    public <U> TryPipeline<T, U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return append(value -> mapper.apply((R) value));
+    }
+
+    /**
+     * Appends a stage binding the value. See {@link Try#flatMap(Function)}.
+     *
+     * @param mapper function to be applied
+     * @param <U>    Type of the function's result
+     * @return a new pipeline with the stage appended
+     */
+    @SuppressWarnings("unchecked")
+    public <U> TryPipeline<T, U> flatMap(Function<? super R, ? extends Try<U>> mapper) {
+        Objects.requireNonNull(mapper);
+        return append(value -> {
+            Try<U> result = mapper.apply((R) value);
+            return result.isSuccess() ? result.getSilent() : new Halt(result);
+        });
+    }
+
+    /**
+     * Appends a stage failing with the shared {@link PredicateFailedException} if the predicate does not hold.
+     * See {@link Try#filter(Predicate)}.
+     *
+     * @param p Predicate
+     * @return a new pipeline with the stage appended
+     */
+    @SuppressWarnings("unchecked")
+    public TryPipeline<T, R> filter(Predicate<R> p) {
+        Objects.requireNonNull(p);
+        return append(value -> p.test((R) value) ? value : FILTERED);
+    }
+
+    /**
+     * Appends a stage failing with the given error if the predicate does not hold.
+     * See {@link Try#filter(Predicate, Supplier)}.
+     *
+     * @param p     Predicate
+     * @param error the error of the failure in case the predicate does not hold
+     * @return a new pipeline with the stage appended
+     */
+    @SuppressWarnings("unchecked")
+    public TryPipeline<T, R> filter(Predicate<R> p, Supplier<? extends Throwable> error) {
+        Objects.requireNonNull(p);
+        Objects.requireNonNull(error);
+        return append(value -> p.test((R) value) ? value : new Halt(Try.failure(error)));
+    }
+
+    /**
+     * Runs all the stages on the given input.
+     *
+     * @param input the value to be processed
+     * @return a Success with the value of the last stage, or the Failure of the first stage that failed
+     */
+    @SuppressWarnings("unchecked")
+    public Try<R> apply(T input) {
+        Object value = input;
+        for (Stage stage : stages) {
+            value = stage.apply(value);
+            if (value instanceof Halt) {
+                return (Try<R>) ((Halt) value).failure;
+            }
+        }
+        return Try.success((R) value);
+    }
+
+    /**
+     * Runs all the stages on the value of the given Try, or returns it if it is a Failure.
+     *
+     * @param input the Try to be processed
+     * @return a Success with the value of the last stage, or the first Failure found
+     */
+    public Try<R> applyTry(Try<T> input) {
+        Objects.requireNonNull(input);
+        return input.flatMap(this::apply);
+    }
+
+    /**
+     * Returns the pipeline as a function, e.g. to be used in {@code Stream.map}.
+     *
+     * @return a function applying the pipeline
+     */
+    public Function<T, Try<R>> toFunction() {
+        return this::apply;
+    }
+
+    private <U> TryPipeline<T, U> append(Stage stage) {
+        Stage[] appended = Arrays.copyOf(stages, stages.length + 1);
+        appended[stages.length] = stage;
+        return new TryPipeline<>(appended);
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        /**
+         * Returns the value for the next stage, or a {@link Halt} to stop the pipeline.
+         */
+        Object apply(Object value);
+    }
+
+    private static final class Halt {
+        private final Try<?> failure;
+
+        private Halt(Try<?> failure) {
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Enforces time budgets on computations running in the calling thread.
+ * <p>
+ * Instead of moving the computation to another thread, a single shared daemon thread interrupts the caller once its
+ * budget is spent, so a blocking computation is woken up without dedicating a thread to each call.
+ */
+final class TryScheduler {
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER = create();
+
+    private TryScheduler() {
+    }
+
+    private static ScheduledThreadPoolExecutor create() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "functional-aids-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    static <T> Try<T> withTimeout(Supplier<T> ofThrowable, long timeoutNanos) {
+        return within(() -> Try.of(ofThrowable), timeoutNanos);
+    }
+
+    /**
+     * Runs a stage producing a Try within the budget. An exception thrown by the stage propagates, like it does from
+     * {@link Try#map}, unless the budget was spent meanwhile: it is then taken as the reaction to the interruption and
+     * the stage times out.
+     */
+    static <T> Try<T> within(Supplier<? extends Try<T>> stage, long timeoutNanos) {
+        if (timeoutNanos <= 0) {
+            return Try.failure(new TimeoutFailure("No time left to start the computation"));
+        }
+        Interruption interruption = new Interruption(Thread.currentThread());
+        ScheduledFuture<?> timer = SCHEDULER.schedule(interruption, timeoutNanos, TimeUnit.NANOSECONDS);
+        Try<T> result = null;
+        RuntimeException thrown = null;
+        try {
+            result = stage.get();
+        } catch (RuntimeException e) {
+            thrown = e;
+        } finally {
+            timer.cancel(false);
+            interruption.finish();
+        }
+        if (interruption.hasInterrupted()) {
+            return Try.failure(new TimeoutFailure("Computation did not complete within " + timeoutNanos + " ns"));
+        }
+        if (thrown != null) {
+            throw thrown;
+        }
+        return result;
+    }
+
+    /**
+     * Interrupts the computing thread unless the computation finishes first. Exactly one of {@link #run()} and
+     * {@link #finish()} wins; if the interruption wins, {@link #finish()} waits for it and clears the interrupt flag,
+     * so it never leaks out of the computation. An interrupt the thread already had when the budget ran out did not
+     * come from here, so it is restored after clearing.
+     */
+    private static final class Interruption implements Runnable {
+        private static final int RUNNING = 0;
+        private static final int FINISHED = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int INTERRUPTED = 3;
+
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        private final Thread thread;
+        private boolean alreadyInterrupted;
+
+        private Interruption(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public void run() {
+            if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                alreadyInterrupted = thread.isInterrupted();
+                thread.interrupt();
+                state.set(INTERRUPTED);
+            }
+        }
+
+        private void finish() {
+            if (!state.compareAndSet(RUNNING, FINISHED)) {
+                while (state.get() != INTERRUPTED) {
+                    Thread.yield();
+                }
+                Thread.interrupted();
+                if (alreadyInterrupted) {
+                    thread.interrupt();
+                }
+            }
+        }
+
+        private boolean hasInterrupted() {
+            return state.get() == INTERRUPTED;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.acepero13.functionalaids.try2;
+
+import com.acepero13.functionalaids.tuple.Tuple2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs several computations concurrently and combines their outcomes into a single Try.
+ */
+final class TryTasks {
+
+    private TryTasks() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Try<List<T>> all(Collection<? extends Supplier<? extends T>> tasks, Executor executor) {
+        Objects.requireNonNull(tasks);
+        Objects.requireNonNull(executor);
+        CompletionService<Tuple2<Integer, Try<T>>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Tuple2<Integer, Try<T>>>> futures = new ArrayList<>(tasks.size());
+        try {
+            submit(tasks, completion, futures);
+            Object[] values = new Object[futures.size()];
+            for (int done = 0; done < futures.size(); done++) {
+                Tuple2<Integer, Try<T>> outcome = completion.take().get();
+                if (outcome.second().isFailure()) {
+                    return (Try<List<T>>) (Try<?>) outcome.second();
+                }
+                values[outcome.first()] = outcome.second().getSilent();
+            }
+            return Try.success((List<T>) new ArrayList<>(Arrays.asList(values)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (ExecutionException e) {
+            return Try.failure(e.getCause());
+        } catch (RejectedExecutionException e) {
+            return Try.failure(e);
+        } finally {
+            cancel(futures);
+        }
+    }
+
+    static <T> Try<T> any(Collection<? extends Supplier<? extends T>> tasks, Executor executor) {
+        Objects.requireNonNull(tasks);
+        Objects.requireNonNull(executor);
+        if (tasks.isEmpty()) {
+            return Try.failure(new NoSuchElementException("No computations to run"));
+        }
+        CompletionService<Tuple2<Integer, Try<T>>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Tuple2<Integer, Try<T>>>> futures = new ArrayList<>(tasks.size());
+        try {
+            submit(tasks, completion, futures);
+            Try<T> firstFailure = null;
+            for (int done = 0; done < futures.size(); done++) {
+                Try<T> outcome = completion.take().get().second();
+                if (outcome.isSuccess()) {
+                    return outcome;
+                }
+                if (firstFailure == null) {
+                    firstFailure = outcome;
+                }
+            }
+            return firstFailure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (ExecutionException e) {
+            return Try.failure(e.getCause());
+        } catch (RejectedExecutionException e) {
+            return Try.failure(e);
+        } finally {
+            cancel(futures);
+        }
+    }
+
+    static <T> Try<T> hedged(Supplier<? extends T> primary, Supplier<? extends T> fallback, Duration delay,
+                             Executor executor) {
+        Objects.requireNonNull(primary);
+        Objects.requireNonNull(fallback);
+        Objects.requireNonNull(delay);
+        Objects.requireNonNull(executor);
+        HedgeStats stats = HedgeStats.global();
+        stats.recordCall();
+        CompletionService<Tuple2<Integer, Try<T>>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Tuple2<Integer, Try<T>>>> futures = new ArrayList<>(2);
+        try {
+            submit(Collections.singletonList(primary), completion, futures);
+            Future<Tuple2<Integer, Try<T>>> early = completion.poll(delay.toNanos(), TimeUnit.NANOSECONDS);
+            Try<T> firstFailure = null;
+            if (early != null) {
+                firstFailure = early.get().second();
+                if (firstFailure.isSuccess()) {
+                    return firstFailure;
+                }
+            } else {
+                stats.recordFired();
+            }
+            futures.add(completion.submit(() -> Tuple2.of(1, Try.of(fallback::get))));
+            for (int pending = futures.size() - (early == null ? 0 : 1); pending > 0; pending--) {
+                Tuple2<Integer, Try<T>> outcome = completion.take().get();
+                if (outcome.second().isSuccess()) {
+                    if (early == null && outcome.first() == 1) {
+                        stats.recordWon();
+                    }
+                    return outcome.second();
+                }
+                if (firstFailure == null) {
+                    firstFailure = outcome.second();
+                }
+            }
+            return firstFailure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Try.failure(e);
+        } catch (ExecutionException e) {
+            return Try.failure(e.getCause());
+        } catch (RejectedExecutionException e) {
+            return Try.failure(e);
+        } finally {
+            cancel(futures);
+        }
+    }
+
+    private static <T> void submit(Collection<? extends Supplier<? extends T>> tasks,
+                                   CompletionService<Tuple2<Integer, Try<T>>> completion,
+                                   List<Future<Tuple2<Integer, Try<T>>>> futures) {
+        int index = 0;
+        for (Supplier<? extends T> task : tasks) {
+            Objects.requireNonNull(task);
+            int position = index++;
+            futures.add(completion.submit(() -> Tuple2.of(position, Try.of(task::get))));
+        }
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
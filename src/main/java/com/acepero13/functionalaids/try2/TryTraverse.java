@@ -0,0 +1,106 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Applies a function returning a Try to every element of a collection, stopping at the first Failure.
+ */
+final class TryTraverse {
+
+    /**
+     * Smallest number of elements processed by a single fork-join task.
+     */
+    private static final int MIN_CHUNK = 512;
+
+    private TryTraverse() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> Try<List<B>> traverse(Collection<? extends A> values,
+                                        Function<? super A, ? extends Try<? extends B>> mapper) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(mapper);
+        List<B> result = new ArrayList<>(values.size());
+        for (A value : values) {
+            Try<? extends B> mapped = mapper.apply(value);
+            if (mapped.isFailure()) {
+                return (Try<List<B>>) (Try<?>) mapped;
+            }
+            result.add(mapped.getSilent());
+        }
+        return Try.success(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> Try<List<B>> parallelTraverse(Collection<? extends A> values,
+                                                Function<? super A, ? extends Try<? extends B>> mapper,
+                                                ForkJoinPool pool) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(pool);
+        List<? extends A> source = values instanceof List && values instanceof RandomAccess
+                ? (List<? extends A>) values
+                : (List<? extends A>) Arrays.asList(values.toArray());
+        Object[] result = new Object[source.size()];
+        int chunk = Math.max(MIN_CHUNK, result.length / (pool.getParallelism() << 3));
+        Chunk<A, B> root = new Chunk<>(source, mapper, result, new AtomicReference<>(), chunk, 0, result.length);
+        pool.invoke(root);
+        Try<?> failure = root.failure.get();
+        return failure != null
+                ? (Try<List<B>>) failure
+                : Try.success((List<B>) Arrays.asList(result));
+    }
+
+    private static final class Chunk<A, B> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends A> source;
+        private final Function<? super A, ? extends Try<? extends B>> mapper;
+        private final Object[] result;
+        private final AtomicReference<Try<?>> failure;
+        private final int chunk;
+        private final int from;
+        private final int to;
+
+        private Chunk(List<? extends A> source, Function<? super A, ? extends Try<? extends B>> mapper, Object[] result,
+                      AtomicReference<Try<?>> failure, int chunk, int from, int to) {
+            this.source = source;
+            this.mapper = mapper;
+            this.result = result;
+            this.failure = failure;
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (failure.get() != null) {
+                return;
+            }
+            if (to - from > chunk) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Chunk<>(source, mapper, result, failure, chunk, from, middle),
+                        new Chunk<>(source, mapper, result, failure, chunk, middle, to));
+                return;
+            }
+            for (int i = from; i < to && failure.get() == null; i++) {
+                Try<? extends B> mapped = mapper.apply(source.get(i));
+                if (mapped.isFailure()) {
+                    failure.compareAndSet(null, mapped);
+                    return;
+                }
+                result[i] = mapped.getSilent();
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+
+/**
+ * A thread-safe {@link PairKeyedMap}, for caches shared between threads.
+ * <p>
+ * The entries are split over independent stripes, chosen by the high bits of the hash, each one a
+ * {@link PairKeyedMap} guarded by its own {@link StampedLock}. Reads are optimistic: they take no lock, compare only
+ * the stored hashes until the read is validated, and call {@code equals} on the keys they read once it is. They only
+ * retry under a read lock if a write to the same stripe happened meanwhile, or if another key has the same hash.
+ * Writes to different stripes do not contend.
+ *
+ * @param <A> Type of the first key component
+ * @param <B> Type of the second key component
+ * @param <V> Type of the values
+ */
+public final class ConcurrentPairKeyedMap<A, B, V> {
+
+    private final Stripe<A, B, V>[] stripes;
+    private final int shift;
+
+    private ConcurrentPairKeyedMap(int expectedSize, int stripeCount) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        @SuppressWarnings("unchecked")
+        Stripe<A, B, V>[] created = (Stripe<A, B, V>[]) new Stripe<?, ?, ?>[count];
+        this.stripes = created;
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>(expectedSize / count);
+        }
+    }
+
+    /**
+     * Creates an empty map with four stripes per available processor.
+     *
+     * @param <A> Type of the first key component
+     * @param <B> Type of the second key component
+     * @param <V> Type of the values
+     * @return a new map
+     */
+    public static <A, B, V> ConcurrentPairKeyedMap<A, B, V> create() {
+        return create(0, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an empty map.
+     *
+     * @param expectedSize number of entries expected
+     * @param stripes      number of independently locked stripes, rounded up to a power of two
+     * @param <A>          Type of the first key component
+     * @param <B>          Type of the second key component
+     * @param <V>          Type of the values
+     * @return a new map
+     */
+    public static <A, B, V> ConcurrentPairKeyedMap<A, B, V> create(int expectedSize, int stripes) {
+        if (expectedSize < 0 || stripes < 1 || stripes > 1 << 16) {
+            throw new IllegalArgumentException("Invalid expectedSize or stripes: " + expectedSize + ", " + stripes);
+        }
+        return new ConcurrentPairKeyedMap<>(expectedSize, stripes);
+    }
+
+    /**
+     * Returns the value for the key (a, b), or null if there is none.
+     *
+     * @param a first key component
+     * @param b second key component
+     * @return the value, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(A a, B b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        int hash = PairKeyedMap.hash(a, b);
+        Stripe<A, B, V> stripe = stripeFor(hash);
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            PairKeyedMap.Table table = stripe.map.table();
+            int index = table.slotOf(hash);
+            Object keyA = index < 0 ? null : table.keyA(index);
+            Object keyB = index < 0 ? null : table.keyB(index);
+            Object value = index < 0 ? null : table.value(index);
+            if (stripe.lock.validate(stamp)) {
+                if (index < 0) {
+                    return null;
+                }
+                if ((keyA == a || a.equals(keyA)) && (keyB == b || b.equals(keyB))) {
+                    return (V) value;
+                }
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return stripe.map.get(a, b, hash);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns true if there is a value for the key (a, b).
+     *
+     * @param a first key component
+     * @param b second key component
+     * @return true if the key is present
+     */
+    public boolean containsKey(A a, B b) {
+        return get(a, b) != null;
+    }
+
+    /**
+     * Associates <i>value</i> with the key (a, b).
+     *
+     * @param a     first key component
+     * @param b     second key component
+     * @param value the value
+     * @return the previous value, or null if there was none
+     */
+    public V put(A a, B b, V value) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(value);
+        int hash = PairKeyedMap.hash(a, b);
+        Stripe<A, B, V> stripe = stripeFor(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            return stripe.map.put(a, b, value, hash);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the value for the key (a, b), computing it with <i>mapper</i> and storing it if there is none. The
+     * mapper runs at most once per absent key, while holding the lock of its stripe, so it should be short and must
+     * not use this map.
+     *
+     * @param a      first key component
+     * @param b      second key component
+     * @param mapper computes the value of an absent key
+     * @return the current or computed value
+     */
+    public V computeIfAbsent(A a, B b, BiFunction<? super A, ? super B, ? extends V> mapper) {
+        Objects.requireNonNull(mapper);
+        V current = get(a, b);
+        if (current != null) {
+            return current;
+        }
+        int hash = PairKeyedMap.hash(a, b);
+        Stripe<A, B, V> stripe = stripeFor(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            return stripe.map.computeIfAbsent(a, b, mapper, hash);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the value for the key (a, b).
+     *
+     * @param a first key component
+     * @param b second key component
+     * @return the removed value, or null if there was none
+     */
+    public V remove(A a, B b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        int hash = PairKeyedMap.hash(a, b);
+        Stripe<A, B, V> stripe = stripeFor(hash);
+        long stamp = stripe.lock.writeLock();
+        try {
+            return stripe.map.remove(a, b, hash);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Number of entries. Stripes are counted one after the other, so concurrent writes may or may not be included.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<A, B, V> stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                size += stripe.map.size();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns true if there are no entries.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all the entries, one stripe after the other.
+     */
+    public void clear() {
+        for (Stripe<A, B, V> stripe : stripes) {
+            long stamp = stripe.lock.writeLock();
+            try {
+                stripe.map.clear();
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Executes the given function for each entry, one stripe after the other while holding its read lock, so it must
+     * not modify this map.
+     *
+     * @param consumer the function to execute
+     */
+    public void forEach(PairKeyedMap.EntryConsumer<? super A, ? super B, ? super V> consumer) {
+        Objects.requireNonNull(consumer);
+        for (Stripe<A, B, V> stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                stripe.map.forEach(consumer);
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the keys, as tuples.
+     *
+     * @return the keys at the time of the call
+     */
+    public List<Tuple2<A, B>> keys() {
+        List<Tuple2<A, B>> keys = new ArrayList<>();
+        forEach((a, b, value) -> keys.add(Tuple2.of(a, b)));
+        return keys;
+    }
+
+    private Stripe<A, B, V> stripeFor(int hash) {
+        return shift == Integer.SIZE ? stripes[0] : stripes[hash >>> shift];
+    }
+
+    private static final class Stripe<A, B, V> {
+        private final StampedLock lock = new StampedLock();
+        private final PairKeyedMap<A, B, V> map;
+
+        private Stripe(int expectedSize) {
+            this.map = PairKeyedMap.create(expectedSize);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.Objects;
+
+/**
+ * A tuple of an int and an int, stored without boxing.
+ * <p>
+ * It has the same contract as {@link Tuple2}: two tuples are equal if their elements are, and
+ * {@link #boxed()} converts it into the equivalent {@code Tuple2}, which has the same hash.
+ * </p>
+ */
+public final class IntIntTuple {
+    private final int first;
+    private final int second;
+
+    private IntIntTuple(int first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Creates a tuple of the given elements.
+     *
+     * @param first  the first element
+     * @param second the second element
+     * @return a new tuple
+     */
+    public static IntIntTuple of(int first, int second) {
+        return new IntIntTuple(first, second);
+    }
+
+    /**
+     * Unboxes a {@link Tuple2}. Its elements must not be null.
+     *
+     * @param tuple the tuple to convert
+     * @return the equivalent tuple
+     */
+    public static IntIntTuple from(Tuple2<Integer, Integer> tuple) {
+        Objects.requireNonNull(tuple);
+        return of(Objects.requireNonNull(tuple.first()), Objects.requireNonNull(tuple.second()));
+    }
+
+    /**
+     * The first element of the tuple
+     *
+     * @return A projection of element 1 of this Product.
+     */
+    public int first() {
+        return first;
+    }
+
+    /**
+     * The second element of the tuple
+     *
+     * @return A projection of element 2 of this Product.
+     */
+    public int second() {
+        return second;
+    }
+
+    /**
+     * Invoke the specified function with the two values, without boxing them.
+     *
+     * @param applier Block to be executed
+     */
+    public void apply(Applicable applier) {
+        applier.apply(first, second);
+    }
+
+    /**
+     * Converts this tuple into a {@link Tuple2}, boxing both elements.
+     *
+     * @return the equivalent Tuple2
+     */
+    public Tuple2<Integer, Integer> boxed() {
+        return Tuple2.of(first, second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntIntTuple)) return false;
+        IntIntTuple other = (IntIntTuple) o;
+        return first == other.first && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+        return Tuple2Impl.mix(Integer.hashCode(first), Integer.hashCode(second));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+    @FunctionalInterface
+    public interface Applicable {
+        void apply(int first, int second);
+    }
+}
@@ -0,0 +1,102 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.Objects;
+
+/**
+ * A tuple of a long and a double, stored without boxing.
+ * <p>
+ * It has the same contract as {@link Tuple2}: two tuples are equal if their elements are, and
+ * {@link #boxed()} converts it into the equivalent {@code Tuple2}, which has the same hash.
+ * </p>
+ */
+public final class LongDoubleTuple {
+    private final long first;
+    private final double second;
+
+    private LongDoubleTuple(long first, double second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Creates a tuple of the given elements.
+     *
+     * @param first  the first element
+     * @param second the second element
+     * @return a new tuple
+     */
+    public static LongDoubleTuple of(long first, double second) {
+        return new LongDoubleTuple(first, second);
+    }
+
+    /**
+     * Unboxes a {@link Tuple2}. Its elements must not be null.
+     *
+     * @param tuple the tuple to convert
+     * @return the equivalent tuple
+     */
+    public static LongDoubleTuple from(Tuple2<Long, Double> tuple) {
+        Objects.requireNonNull(tuple);
+        return of(Objects.requireNonNull(tuple.first()), Objects.requireNonNull(tuple.second()));
+    }
+
+    /**
+     * The first element of the tuple
+     *
+     * @return A projection of element 1 of this Product.
+     */
+    public long first() {
+        return first;
+    }
+
+    /**
+     * The second element of the tuple
+     *
+     * @return A projection of element 2 of this Product.
+     */
+    public double second() {
+        return second;
+    }
+
+    /**
+     * Invoke the specified function with the two values, without boxing them.
+     *
+     * @param applier Block to be executed
+     */
+    public void apply(Applicable applier) {
+        applier.apply(first, second);
+    }
+
+    /**
+     * Converts this tuple into a {@link Tuple2}, boxing both elements.
+     *
+     * @return the equivalent Tuple2
+     */
+    public Tuple2<Long, Double> boxed() {
+        return Tuple2.of(first, second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongDoubleTuple)) return false;
+        LongDoubleTuple other = (LongDoubleTuple) o;
+        return first == other.first
+                && Double.doubleToLongBits(second) == Double.doubleToLongBits(other.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Tuple2Impl.mix(Long.hashCode(first), Double.hashCode(second));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+    @FunctionalInterface
+    public interface Applicable {
+        void apply(long first, double second);
+    }
+}
@@ -0,0 +1,287 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A list of pairs of longs and doubles stored as two parallel primitive arrays, see {@link Tuple2Array}.
+ * <p>
+ * {@link LongDoubleTuple} instances are only created when the list is read as a list of tuples; {@link #first(int)},
+ * {@link #second(int)} and {@link #forEach(LongDoubleTuple.Applicable)} neither allocate nor box.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class LongDoubleTupleArray extends AbstractList<LongDoubleTuple> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private long[] firsts;
+    private double[] seconds;
+    private int size;
+
+    private LongDoubleTupleArray(int capacity) {
+        this.firsts = new long[capacity];
+        this.seconds = new double[capacity];
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @return a new list
+     */
+    public static LongDoubleTupleArray create() {
+        return new LongDoubleTupleArray(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list which holds <i>capacity</i> pairs without growing.
+     *
+     * @param capacity the initial capacity
+     * @return a new list
+     */
+    public static LongDoubleTupleArray create(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        return new LongDoubleTupleArray(capacity);
+    }
+
+    /**
+     * Appends a pair without creating a tuple.
+     *
+     * @param first  the first element
+     * @param second the second element
+     */
+    public void add(long first, double second) {
+        if (size == firsts.length) {
+            grow();
+        }
+        firsts[size] = first;
+        seconds[size] = second;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(LongDoubleTuple tuple) {
+        Objects.requireNonNull(tuple);
+        add(tuple.first(), tuple.second());
+        return true;
+    }
+
+    /**
+     * The first element of the pair at <i>index</i>.
+     *
+     * @param index index of the pair
+     * @return the first element
+     */
+    public long first(int index) {
+        checkIndex(index);
+        return firsts[index];
+    }
+
+    /**
+     * The second element of the pair at <i>index</i>.
+     *
+     * @param index index of the pair
+     * @return the second element
+     */
+    public double second(int index) {
+        checkIndex(index);
+        return seconds[index];
+    }
+
+    /**
+     * Returns the pair at <i>index</i> as a new tuple.
+     *
+     * @param index index of the pair
+     * @return the pair
+     */
+    @Override
+    public LongDoubleTuple get(int index) {
+        return LongDoubleTuple.of(first(index), second(index));
+    }
+
+    @Override
+    public LongDoubleTuple set(int index, LongDoubleTuple tuple) {
+        Objects.requireNonNull(tuple);
+        LongDoubleTuple previous = get(index);
+        firsts[index] = tuple.first();
+        seconds[index] = tuple.second();
+        return previous;
+    }
+
+    @Override
+    public LongDoubleTuple remove(int index) {
+        LongDoubleTuple previous = get(index);
+        int moved = size - index - 1;
+        System.arraycopy(firsts, index + 1, firsts, index, moved);
+        System.arraycopy(seconds, index + 1, seconds, index, moved);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Invokes <i>applier</i> with each pair, in order, without creating tuples or boxing.
+     *
+     * @param applier Block to be executed
+     */
+    public void forEach(LongDoubleTuple.Applicable applier) {
+        Objects.requireNonNull(applier);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            applier.apply(firsts[i], seconds[i]);
+        }
+        checkNotModified(expectedModCount);
+    }
+
+    /**
+     * Sorts the pairs by their first elements in ascending order, moving the second elements along. The sort is a
+     * stable merge sort working on the two arrays directly, so pairs with equal first elements keep their relative
+     * order.
+     */
+    public void sortByFirst() {
+        long[] firstsCopy = Arrays.copyOf(firsts, size);
+        double[] secondsCopy = Arrays.copyOf(seconds, size);
+        mergeSort(firstsCopy, secondsCopy, firsts, seconds, 0, size);
+        modCount++;
+    }
+
+    @Override
+    public Spliterator<LongDoubleTuple> spliterator() {
+        return new ColumnSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Sorts {@code [low, high)} of the destination arrays, which start as copies of the source arrays, see
+     * {@link Tuple2Array#sortByFirst}.
+     */
+    private static void mergeSort(long[] srcFirsts, double[] srcSeconds, long[] dstFirsts, double[] dstSeconds,
+                                  int low, int high) {
+        int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                long first = dstFirsts[i];
+                double second = dstSeconds[i];
+                int j = i;
+                for (; j > low && dstFirsts[j - 1] > first; j--) {
+                    dstFirsts[j] = dstFirsts[j - 1];
+                    dstSeconds[j] = dstSeconds[j - 1];
+                }
+                dstFirsts[j] = first;
+                dstSeconds[j] = second;
+            }
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        mergeSort(dstFirsts, dstSeconds, srcFirsts, srcSeconds, low, mid);
+        mergeSort(dstFirsts, dstSeconds, srcFirsts, srcSeconds, mid, high);
+        if (srcFirsts[mid - 1] <= srcFirsts[mid]) {
+            System.arraycopy(srcFirsts, low, dstFirsts, low, length);
+            System.arraycopy(srcSeconds, low, dstSeconds, low, length);
+            return;
+        }
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && srcFirsts[p] <= srcFirsts[q]) {
+                dstFirsts[i] = srcFirsts[p];
+                dstSeconds[i] = srcSeconds[p++];
+            } else {
+                dstFirsts[i] = srcFirsts[q];
+                dstSeconds[i] = srcSeconds[q++];
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, firsts.length + (firsts.length >> 1));
+        firsts = Arrays.copyOf(firsts, capacity);
+        seconds = Arrays.copyOf(seconds, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkNotModified(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private final class ColumnSpliterator implements Spliterator<LongDoubleTuple> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        private ColumnSpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LongDoubleTuple> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            int i = index++;
+            action.accept(LongDoubleTuple.of(firsts[i], seconds[i]));
+            checkNotModified(expectedModCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super LongDoubleTuple> action) {
+            Objects.requireNonNull(action);
+            long[] f = firsts;
+            double[] s = seconds;
+            for (int i = index; i < fence; i++) {
+                action.accept(LongDoubleTuple.of(f[i], s[i]));
+            }
+            index = fence;
+            checkNotModified(expectedModCount);
+        }
+
+        @Override
+        public Spliterator<LongDoubleTuple> trySplit() {
+            int low = index;
+            int mid = (low + fence) >>> 1;
+            if (low >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ColumnSpliterator(low, mid, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+}
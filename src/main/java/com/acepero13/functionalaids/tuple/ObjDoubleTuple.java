@@ -0,0 +1,106 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.Objects;
+
+/**
+ * A tuple of an object and a double, stored without boxing.
+ * <p>
+ * It has the same contract as {@link Tuple2}: two tuples are equal if their elements are, and
+ * {@link #boxed()} converts it into the equivalent {@code Tuple2}, which has the same hash.
+ * </p>
+ *
+ * @param <F> Type of the first element
+ */
+public final class ObjDoubleTuple<F> {
+    private final F first;
+    private final double second;
+
+    private ObjDoubleTuple(F first, double second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Creates a tuple of the given elements.
+     *
+     * @param first  the first element
+     * @param second the second element
+     * @param <F>    Type of the first element
+     * @return a new tuple
+     */
+    public static <F> ObjDoubleTuple<F> of(F first, double second) {
+        return new ObjDoubleTuple<>(first, second);
+    }
+
+    /**
+     * Unboxes a {@link Tuple2}. Its second element must not be null.
+     *
+     * @param tuple the tuple to convert
+     * @param <F>   Type of the first element
+     * @return the equivalent tuple
+     */
+    public static <F> ObjDoubleTuple<F> from(Tuple2<F, Double> tuple) {
+        Objects.requireNonNull(tuple);
+        return of(tuple.first(), Objects.requireNonNull(tuple.second()));
+    }
+
+    /**
+     * The first element of the tuple
+     *
+     * @return A projection of element 1 of this Product.
+     */
+    public F first() {
+        return first;
+    }
+
+    /**
+     * The second element of the tuple
+     *
+     * @return A projection of element 2 of this Product.
+     */
+    public double second() {
+        return second;
+    }
+
+    /**
+     * Invoke the specified function with the two values, without boxing them.
+     *
+     * @param applier Block to be executed
+     */
+    public void apply(Applicable<? super F> applier) {
+        applier.apply(first, second);
+    }
+
+    /**
+     * Converts this tuple into a {@link Tuple2}, boxing the second element.
+     *
+     * @return the equivalent Tuple2
+     */
+    public Tuple2<F, Double> boxed() {
+        return Tuple2.of(first, second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ObjDoubleTuple)) return false;
+        ObjDoubleTuple<?> other = (ObjDoubleTuple<?>) o;
+        return Objects.equals(first, other.first)
+                && Double.doubleToLongBits(second) == Double.doubleToLongBits(other.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Tuple2Impl.mix(Objects.hashCode(first), Double.hashCode(second));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+    @FunctionalInterface
+    public interface Applicable<F> {
+        void apply(F first, double second);
+    }
+}
@@ -0,0 +1,105 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.Objects;
+
+/**
+ * A tuple of an object and an int, stored without boxing.
+ * <p>
+ * It has the same contract as {@link Tuple2}: two tuples are equal if their elements are, and
+ * {@link #boxed()} converts it into the equivalent {@code Tuple2}, which has the same hash.
+ * </p>
+ *
+ * @param <F> Type of the first element
+ */
+public final class ObjIntTuple<F> {
+    private final F first;
+    private final int second;
+
+    private ObjIntTuple(F first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Creates a tuple of the given elements.
+     *
+     * @param first  the first element
+     * @param second the second element
+     * @param <F>    Type of the first element
+     * @return a new tuple
+     */
+    public static <F> ObjIntTuple<F> of(F first, int second) {
+        return new ObjIntTuple<>(first, second);
+    }
+
+    /**
+     * Unboxes a {@link Tuple2}. Its second element must not be null.
+     *
+     * @param tuple the tuple to convert
+     * @param <F>   Type of the first element
+     * @return the equivalent tuple
+     */
+    public static <F> ObjIntTuple<F> from(Tuple2<F, Integer> tuple) {
+        Objects.requireNonNull(tuple);
+        return of(tuple.first(), Objects.requireNonNull(tuple.second()));
+    }
+
+    /**
+     * The first element of the tuple
+     *
+     * @return A projection of element 1 of this Product.
+     */
+    public F first() {
+        return first;
+    }
+
+    /**
+     * The second element of the tuple
+     *
+     * @return A projection of element 2 of this Product.
+     */
+    public int second() {
+        return second;
+    }
+
+    /**
+     * Invoke the specified function with the two values, without boxing them.
+     *
+     * @param applier Block to be executed
+     */
+    public void apply(Applicable<? super F> applier) {
+        applier.apply(first, second);
+    }
+
+    /**
+     * Converts this tuple into a {@link Tuple2}, boxing the second element.
+     *
+     * @return the equivalent Tuple2
+     */
+    public Tuple2<F, Integer> boxed() {
+        return Tuple2.of(first, second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ObjIntTuple)) return false;
+        ObjIntTuple<?> other = (ObjIntTuple<?>) o;
+        return Objects.equals(first, other.first) && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+        return Tuple2Impl.mix(Objects.hashCode(first), Integer.hashCode(second));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
+
+    @FunctionalInterface
+    public interface Applicable<F> {
+        void apply(F first, int second);
+    }
+}
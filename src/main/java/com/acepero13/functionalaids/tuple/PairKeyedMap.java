@@ -0,0 +1,437 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * A hash map whose keys are pairs of values, looked up without creating a {@link Tuple2} per call.
+ * <p>
+ * The table uses open addressing with linear probing, with the two key components, the values and the hashes stored
+ * in parallel arrays; removals shift the following entries back instead of leaving tombstones. Keys and values must
+ * not be null. Tuples are only created when iterating over the keys. This class is not thread-safe, see
+ * {@link ConcurrentPairKeyedMap}.
+ *
+ * <pre>
+ *     PairKeyedMap[String, Integer, Price] prices = PairKeyedMap.create();
+ *     prices.put("EUR", 2024, price);
+ *     Price price = prices.get("EUR", 2024);
+ * </pre>
+ *
+ * @param <A> Type of the first key component
+ * @param <B> Type of the second key component
+ * @param <V> Type of the values
+ */
+public final class PairKeyedMap<A, B, V> {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Table table;
+    private int size;
+
+    private PairKeyedMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * Creates an empty map.
+     *
+     * @param <A> Type of the first key component
+     * @param <B> Type of the second key component
+     * @param <V> Type of the values
+     * @return a new map
+     */
+    public static <A, B, V> PairKeyedMap<A, B, V> create() {
+        return new PairKeyedMap<>(0);
+    }
+
+    /**
+     * Creates an empty map which holds <i>expectedSize</i> entries without growing.
+     *
+     * @param expectedSize number of entries expected
+     * @param <A>          Type of the first key component
+     * @param <B>          Type of the second key component
+     * @param <V>          Type of the values
+     * @return a new map
+     */
+    public static <A, B, V> PairKeyedMap<A, B, V> create(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        return new PairKeyedMap<>(expectedSize);
+    }
+
+    /**
+     * The hash used for the key (a, b), the same as the hash of {@code Tuple2.of(a, b)}.
+     */
+    static int hash(Object a, Object b) {
+        return Tuple2Impl.hash(a, b);
+    }
+
+    /**
+     * Returns the value for the key (a, b), or null if there is none.
+     *
+     * @param a first key component
+     * @param b second key component
+     * @return the value, or null
+     */
+    public V get(A a, B b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        return get(a, b, hash(a, b));
+    }
+
+    /**
+     * Returns the value for the key (a, b), or <i>defaultValue</i> if there is none.
+     *
+     * @param a            first key component
+     * @param b            second key component
+     * @param defaultValue value returned if the key is absent
+     * @return the value, or the default value
+     */
+    public V getOrDefault(A a, B b, V defaultValue) {
+        V value = get(a, b);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns true if there is a value for the key (a, b).
+     *
+     * @param a first key component
+     * @param b second key component
+     * @return true if the key is present
+     */
+    public boolean containsKey(A a, B b) {
+        return get(a, b) != null;
+    }
+
+    /**
+     * Associates <i>value</i> with the key (a, b).
+     *
+     * @param a     first key component
+     * @param b     second key component
+     * @param value the value
+     * @return the previous value, or null if there was none
+     */
+    public V put(A a, B b, V value) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(value);
+        return put(a, b, value, hash(a, b));
+    }
+
+    /**
+     * Returns the value for the key (a, b), computing it with <i>mapper</i> and storing it if there is none.
+     *
+     * @param a      first key component
+     * @param b      second key component
+     * @param mapper computes the value of an absent key
+     * @return the current or computed value
+     */
+    public V computeIfAbsent(A a, B b, BiFunction<? super A, ? super B, ? extends V> mapper) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(mapper);
+        return computeIfAbsent(a, b, mapper, hash(a, b));
+    }
+
+    /**
+     * Removes the value for the key (a, b).
+     *
+     * @param a first key component
+     * @param b second key component
+     * @return the removed value, or null if there was none
+     */
+    public V remove(A a, B b) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        return remove(a, b, hash(a, b));
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if there are no entries.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the entries, keeping the current capacity.
+     */
+    public void clear() {
+        table = new Table(table.keysA.length);
+        size = 0;
+    }
+
+    /**
+     * Executes the given function for each entry, without creating tuples.
+     *
+     * @param consumer the function to execute
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super A, ? super B, ? super V> consumer) {
+        Objects.requireNonNull(consumer);
+        Table t = table;
+        for (int i = 0; i < t.keysA.length; i++) {
+            if (t.keysA[i] != null) {
+                consumer.accept((A) t.keysA[i], (B) t.keysB[i], (V) t.values[i]);
+            }
+        }
+    }
+
+    /**
+     * The keys of this map, as tuples created during the iteration. The map must not be modified while iterating.
+     *
+     * @return the keys
+     */
+    public Iterable<Tuple2<A, B>> keys() {
+        return KeyIterator::new;
+    }
+
+    Table table() {
+        return table;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object a, Object b, int hash) {
+        Table t = table;
+        int index = t.find(a, b, hash);
+        return index < 0 ? null : (V) t.values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(A a, B b, V value, int hash) {
+        Table t = table;
+        int index = t.find(a, b, hash);
+        if (index >= 0) {
+            V previous = (V) t.values[index];
+            t.values[index] = value;
+            return previous;
+        }
+        insert(a, b, value, hash);
+        return null;
+    }
+
+    V computeIfAbsent(A a, B b, BiFunction<? super A, ? super B, ? extends V> mapper, int hash) {
+        V current = get(a, b, hash);
+        if (current != null) {
+            return current;
+        }
+        V value = mapper.apply(a, b);
+        if (value != null) {
+            insert(a, b, value, hash);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(Object a, Object b, int hash) {
+        Table t = table;
+        int index = t.find(a, b, hash);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) t.values[index];
+        t.delete(index);
+        size--;
+        return previous;
+    }
+
+    private void insert(Object a, Object b, Object value, int hash) {
+        if (size + 1 > table.keysA.length >> 1) {
+            resize();
+        }
+        table.insert(a, b, value, hash);
+        size++;
+    }
+
+    private void resize() {
+        Table old = table;
+        if (old.keysA.length == MAX_CAPACITY) {
+            throw new IllegalStateException("PairKeyedMap is full");
+        }
+        Table grown = new Table(old.keysA.length << 1);
+        for (int i = 0; i < old.keysA.length; i++) {
+            if (old.keysA[i] != null) {
+                grown.insert(old.keysA[i], old.keysB[i], old.values[i], old.hashes[i]);
+            }
+        }
+        table = grown;
+    }
+
+    /**
+     * A power of two, at least twice the expected size, so the table is never more than half full.
+     */
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, 2L * expectedSize);
+        return needed >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Receives the entries of a {@link PairKeyedMap}.
+     *
+     * @param <A> Type of the first key component
+     * @param <B> Type of the second key component
+     * @param <V> Type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<A, B, V> {
+        void accept(A a, B b, V value);
+    }
+
+    /**
+     * The arrays of a table of a given capacity. A grown table is a new instance, so a reader holding a table never
+     * sees arrays of different lengths, even without synchronization (see {@link ConcurrentPairKeyedMap}).
+     */
+    static final class Table {
+        private final Object[] keysA;
+        private final Object[] keysB;
+        private final Object[] values;
+        private final int[] hashes;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keysA = new Object[capacity];
+            this.keysB = new Object[capacity];
+            this.values = new Object[capacity];
+            this.hashes = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * Returns the first slot holding the hash, or -1 if there is none. It only compares hashes and never calls
+         * {@code equals}, so it can run on a table that another thread is writing, as long as the caller validates
+         * what it read before using it.
+         */
+        int slotOf(int hash) {
+            int index = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                if (keysA[index] == null) {
+                    return -1;
+                }
+                if (hashes[index] == hash) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        Object keyA(int index) {
+            return keysA[index];
+        }
+
+        Object keyB(int index) {
+            return keysB[index];
+        }
+
+        Object value(int index) {
+            return values[index];
+        }
+
+        /**
+         * Returns the slot of the key, or -1. Probes at most the whole table, so it ends even when read while another
+         * thread writes.
+         */
+        private int find(Object a, Object b, int hash) {
+            int index = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                Object keyA = keysA[index];
+                if (keyA == null) {
+                    return -1;
+                }
+                if (hashes[index] == hash && (keyA == a || a.equals(keyA))) {
+                    Object keyB = keysB[index];
+                    if (keyB == b || b.equals(keyB)) {
+                        return index;
+                    }
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(Object a, Object b, Object value, int hash) {
+            int index = hash & mask;
+            while (keysA[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keysB[index] = b;
+            values[index] = value;
+            hashes[index] = hash;
+            keysA[index] = a;
+        }
+
+        /**
+         * Empties a slot, moving back the following entries of the same run which would otherwise become
+         * unreachable from their home slot.
+         */
+        private void delete(int index) {
+            int hole = index;
+            int next = index;
+            while (true) {
+                next = (next + 1) & mask;
+                if (keysA[next] == null) {
+                    break;
+                }
+                int home = hashes[next] & mask;
+                boolean reachable = hole <= next
+                        ? hole < home && home <= next
+                        : hole < home || home <= next;
+                if (!reachable) {
+                    keysA[hole] = keysA[next];
+                    keysB[hole] = keysB[next];
+                    values[hole] = values[next];
+                    hashes[hole] = hashes[next];
+                    hole = next;
+                }
+            }
+            keysA[hole] = null;
+            keysB[hole] = null;
+            values[hole] = null;
+            hashes[hole] = 0;
+        }
+    }
+
+    private final class KeyIterator implements Iterator<Tuple2<A, B>> {
+        private final Table snapshot = table;
+        private int index = advance(0);
+
+        private int advance(int from) {
+            int i = from;
+            while (i < snapshot.keysA.length && snapshot.keysA[i] == null) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < snapshot.keysA.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Tuple2<A, B> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Tuple2<A, B> key = Tuple2.of((A) snapshot.keysA[index], (B) snapshot.keysB[index]);
+            index = advance(index + 1);
+            return key;
+        }
+    }
+}
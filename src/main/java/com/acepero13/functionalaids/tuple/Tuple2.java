@@ -1,5 +1,8 @@
 package com.acepero13.functionalaids.tuple;
 
+import java.util.Comparator;
+import java.util.Objects;
+
 /**
  * A tuple of 2 elements
  *
@@ -15,6 +18,10 @@ package com.acepero13.functionalaids.tuple;
  * To create a Tuple we call the static method <b>of</b>. For example:
  * <pre>Tuple.of("Joe Doe", 99.99)</pre>
  * To retrieve the elements we call the <b>first</b> and <b>second</b> method respectively.
+ * <p>
+ * Tuples are values: two tuples are equal if their elements are, so they can be used as composite keys of hash maps.
+ * The hash is computed once and kept, so the elements of a tuple used as a key should not change.
+ * </p>
  *
  *
  * @param <F> Type of the first parameter
@@ -25,6 +32,40 @@ public interface Tuple2<F, S> {
         return new Tuple2Impl<>(fist, second);
     }
 
+    /**
+     * Orders tuples by their first elements, then by their second elements, in natural order.
+     *
+     * @param <F> Type of the first elements
+     * @param <S> Type of the second elements
+     * @return a comparator of tuples
+     */
+    static <F extends Comparable<? super F>, S extends Comparable<? super S>> Comparator<Tuple2<F, S>> comparator() {
+        return (a, b) -> {
+            int result = a.first().compareTo(b.first());
+            return result != 0 ? result : a.second().compareTo(b.second());
+        };
+    }
+
+    /**
+     * Orders tuples by their first elements with <i>first</i>, then by their second elements with <i>second</i>.
+     * Unlike chaining {@link Comparator#comparing}, the elements are compared directly, without a key extractor call
+     * per comparison.
+     *
+     * @param first  comparator of the first elements
+     * @param second comparator of the second elements
+     * @param <F>    Type of the first elements
+     * @param <S>    Type of the second elements
+     * @return a comparator of tuples
+     */
+    static <F, S> Comparator<Tuple2<F, S>> comparator(Comparator<? super F> first, Comparator<? super S> second) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        return (a, b) -> {
+            int result = first.compare(a.first(), b.first());
+            return result != 0 ? result : second.compare(a.second(), b.second());
+        };
+    }
+
     /**
      * The fist element of the tuple
      *
@@ -0,0 +1,329 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A list of pairs stored as two parallel arrays, one for the first elements and one for the second elements, instead
+ * of one {@link Tuple2} object per pair.
+ * <p>
+ * Tuples are only created when the list is read as a list of tuples ({@link #get(int)}, iteration, streams); the
+ * elements can also be read without allocating through {@link #first(int)}, {@link #second(int)} and
+ * {@link #forEach(Tuple2.TupleApplicable)}. Its spliterator splits the index range in halves, so parallel streams
+ * scale. See {@link IntIntTupleArray} and {@link LongDoubleTupleArray} for primitive columns.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <F> Type of the first elements
+ * @param <S> Type of the second elements
+ */
+public final class Tuple2Array<F, S> extends AbstractList<Tuple2<F, S>> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private Object[] firsts;
+    private Object[] seconds;
+    private int size;
+
+    private Tuple2Array(int capacity) {
+        this.firsts = new Object[capacity];
+        this.seconds = new Object[capacity];
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @param <F> Type of the first elements
+     * @param <S> Type of the second elements
+     * @return a new list
+     */
+    public static <F, S> Tuple2Array<F, S> create() {
+        return new Tuple2Array<>(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list which holds <i>capacity</i> pairs without growing.
+     *
+     * @param capacity the initial capacity
+     * @param <F>      Type of the first elements
+     * @param <S>      Type of the second elements
+     * @return a new list
+     */
+    public static <F, S> Tuple2Array<F, S> create(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        return new Tuple2Array<>(capacity);
+    }
+
+    /**
+     * Creates a list with the pairs of the given tuples, in iteration order.
+     *
+     * @param tuples the tuples to copy
+     * @param <F>    Type of the first elements
+     * @param <S>    Type of the second elements
+     * @return a new list
+     */
+    public static <F, S> Tuple2Array<F, S> from(Collection<? extends Tuple2<? extends F, ? extends S>> tuples) {
+        Objects.requireNonNull(tuples);
+        Tuple2Array<F, S> array = new Tuple2Array<>(tuples.size());
+        for (Tuple2<? extends F, ? extends S> tuple : tuples) {
+            array.add(tuple.first(), tuple.second());
+        }
+        return array;
+    }
+
+    /**
+     * Appends a pair without creating a tuple.
+     *
+     * @param first  the first element
+     * @param second the second element
+     */
+    public void add(F first, S second) {
+        if (size == firsts.length) {
+            grow();
+        }
+        firsts[size] = first;
+        seconds[size] = second;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(Tuple2<F, S> tuple) {
+        Objects.requireNonNull(tuple);
+        add(tuple.first(), tuple.second());
+        return true;
+    }
+
+    /**
+     * The first element of the pair at <i>index</i>.
+     *
+     * @param index index of the pair
+     * @return the first element
+     */
+    @SuppressWarnings("unchecked")
+    public F first(int index) {
+        checkIndex(index);
+        return (F) firsts[index];
+    }
+
+    /**
+     * The second element of the pair at <i>index</i>.
+     *
+     * @param index index of the pair
+     * @return the second element
+     */
+    @SuppressWarnings("unchecked")
+    public S second(int index) {
+        checkIndex(index);
+        return (S) seconds[index];
+    }
+
+    /**
+     * Returns the pair at <i>index</i> as a new tuple.
+     *
+     * @param index index of the pair
+     * @return the pair
+     */
+    @Override
+    public Tuple2<F, S> get(int index) {
+        return Tuple2.of(first(index), second(index));
+    }
+
+    @Override
+    public Tuple2<F, S> set(int index, Tuple2<F, S> tuple) {
+        Objects.requireNonNull(tuple);
+        Tuple2<F, S> previous = get(index);
+        firsts[index] = tuple.first();
+        seconds[index] = tuple.second();
+        return previous;
+    }
+
+    @Override
+    public Tuple2<F, S> remove(int index) {
+        Tuple2<F, S> previous = get(index);
+        int moved = size - index - 1;
+        System.arraycopy(firsts, index + 1, firsts, index, moved);
+        System.arraycopy(seconds, index + 1, seconds, index, moved);
+        size--;
+        firsts[size] = null;
+        seconds[size] = null;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(firsts, 0, size, null);
+        Arrays.fill(seconds, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Invokes <i>applier</i> with each pair, in order, without creating tuples.
+     *
+     * @param applier Block to be executed
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Tuple2.TupleApplicable<? super F, ? super S> applier) {
+        Objects.requireNonNull(applier);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            applier.apply((F) firsts[i], (S) seconds[i]);
+        }
+        checkNotModified(expectedModCount);
+    }
+
+    /**
+     * Sorts the pairs by their first elements, moving the second elements along. The sort is a stable merge sort
+     * working on the two arrays directly, so pairs with equal first elements keep their relative order.
+     *
+     * @param comparator comparator of the first elements
+     */
+    @SuppressWarnings("unchecked")
+    public void sortByFirst(Comparator<? super F> comparator) {
+        Objects.requireNonNull(comparator);
+        Object[] firstsCopy = Arrays.copyOf(firsts, size);
+        Object[] secondsCopy = Arrays.copyOf(seconds, size);
+        mergeSort(firstsCopy, secondsCopy, firsts, seconds, 0, size, (Comparator<Object>) comparator);
+        modCount++;
+    }
+
+    @Override
+    public Spliterator<Tuple2<F, S>> spliterator() {
+        return new ColumnSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Sorts {@code [low, high)} of the destination arrays, which start as copies of the source arrays. The roles of
+     * the arrays alternate at each level of recursion, like in {@link Arrays#sort(Object[])} before TimSort.
+     */
+    private static void mergeSort(Object[] srcFirsts, Object[] srcSeconds, Object[] dstFirsts, Object[] dstSeconds,
+                                  int low, int high, Comparator<Object> comparator) {
+        int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                for (int j = i; j > low && comparator.compare(dstFirsts[j - 1], dstFirsts[j]) > 0; j--) {
+                    swap(dstFirsts, j, j - 1);
+                    swap(dstSeconds, j, j - 1);
+                }
+            }
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        mergeSort(dstFirsts, dstSeconds, srcFirsts, srcSeconds, low, mid, comparator);
+        mergeSort(dstFirsts, dstSeconds, srcFirsts, srcSeconds, mid, high, comparator);
+        if (comparator.compare(srcFirsts[mid - 1], srcFirsts[mid]) <= 0) {
+            System.arraycopy(srcFirsts, low, dstFirsts, low, length);
+            System.arraycopy(srcSeconds, low, dstSeconds, low, length);
+            return;
+        }
+        for (int i = low, p = low, q = mid; i < high; i++) {
+            if (q >= high || p < mid && comparator.compare(srcFirsts[p], srcFirsts[q]) <= 0) {
+                dstFirsts[i] = srcFirsts[p];
+                dstSeconds[i] = srcSeconds[p++];
+            } else {
+                dstFirsts[i] = srcFirsts[q];
+                dstSeconds[i] = srcSeconds[q++];
+            }
+        }
+    }
+
+    private static void swap(Object[] array, int i, int j) {
+        Object tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, firsts.length + (firsts.length >> 1));
+        firsts = Arrays.copyOf(firsts, capacity);
+        seconds = Arrays.copyOf(seconds, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkNotModified(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private final class ColumnSpliterator implements Spliterator<Tuple2<F, S>> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        private ColumnSpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super Tuple2<F, S>> action) {
+            Objects.requireNonNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            int i = index++;
+            action.accept(Tuple2.of((F) firsts[i], (S) seconds[i]));
+            checkNotModified(expectedModCount);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super Tuple2<F, S>> action) {
+            Objects.requireNonNull(action);
+            Object[] f = firsts;
+            Object[] s = seconds;
+            for (int i = index; i < fence; i++) {
+                action.accept(Tuple2.of((F) f[i], (S) s[i]));
+            }
+            index = fence;
+            checkNotModified(expectedModCount);
+        }
+
+        @Override
+        public Spliterator<Tuple2<F, S>> trySplit() {
+            int low = index;
+            int mid = (low + fence) >>> 1;
+            if (low >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ColumnSpliterator(low, mid, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
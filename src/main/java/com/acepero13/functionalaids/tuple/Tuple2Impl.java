@@ -1,14 +1,42 @@
 package com.acepero13.functionalaids.tuple;
 
+import java.util.Objects;
+
 final class Tuple2Impl<F, S> implements Tuple2<F, S> {
     private final F first;
     private final S second;
+    /**
+     * Cached hash, 0 until computed. Like {@link String#hashCode()}, racing threads may each compute it, but always
+     * get the same result.
+     */
+    private int hash;
 
     Tuple2Impl(F fist, S second) {
         this.first = fist;
         this.second = second;
     }
 
+    /**
+     * The hash of a tuple of the given elements, see {@link #mix(int, int)}.
+     */
+    static int hash(Object first, Object second) {
+        return mix(Objects.hashCode(first), Objects.hashCode(second));
+    }
+
+    /**
+     * Combines the hashes of two elements and mixes the result (the murmur3 finalizer), so that tuples of small or
+     * sequential values still spread over all the bits, which keeps collisions low in large hash maps.
+     */
+    static int mix(int firstHash, int secondHash) {
+        int h = firstHash * 0x9E3779B9 + secondHash;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
     @Override
     public F first() {
         return first;
@@ -24,4 +52,26 @@ final class Tuple2Impl<F, S> implements Tuple2<F, S> {
         applier.apply(first, second);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Tuple2)) return false;
+        Tuple2<?, ?> tuple = (Tuple2<?, ?>) o;
+        return Objects.equals(first, tuple.first()) && Objects.equals(second, tuple.second());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = hash(first, second);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + first + ", " + second + ")";
+    }
 }
@@ -0,0 +1,262 @@
+package com.acepero13.functionalaids.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Zips two streams into a stream of {@link Tuple2}, and unzips it back.
+ * <p>
+ * Zipping is lazy: the elements of both streams are consumed as the result is. When both streams have the same length
+ * and know the exact sizes of their splits (SIZED and SUBSIZED, such as streams of lists, arrays or ranges), the zipped
+ * stream splits both sides in lockstep, so it runs in parallel as well as its sources. Otherwise, including when the
+ * lengths differ, it is consumed sequentially, even if parallel.
+ *
+ * <pre>
+ *     Stream&lt;Tuple2&lt;String, Integer&gt;&gt; scores = Tuple2Streams.zip(names.stream(), points.stream());
+ *     Tuple2&lt;List&lt;String&gt;, List&lt;Integer&gt;&gt; columns = Tuple2Streams.unzip(scores);
+ * </pre>
+ */
+public final class Tuple2Streams {
+
+    private Tuple2Streams() {
+    }
+
+    /**
+     * Pairs the elements of two streams by position. The result is as long as the shorter stream, and is parallel if
+     * either stream is; it only splits for parallel processing when both streams have the same exact length. Closing
+     * it closes both streams.
+     *
+     * @param first  the stream of the first elements
+     * @param second the stream of the second elements
+     * @param <A>    Type of the first elements
+     * @param <B>    Type of the second elements
+     * @return a stream of pairs
+     */
+    public static <A, B> Stream<Tuple2<A, B>> zip(Stream<? extends A> first, Stream<? extends B> second) {
+        return zipWith(first, second, Tuple2::of);
+    }
+
+    /**
+     * Like {@link #zip(Stream, Stream)}, combining each pair with <i>zipper</i> instead of creating a tuple.
+     *
+     * @param first  the stream of the first elements
+     * @param second the stream of the second elements
+     * @param zipper combines the elements at the same position
+     * @param <A>    Type of the first elements
+     * @param <B>    Type of the second elements
+     * @param <R>    Type of the results
+     * @return a stream of the combined elements
+     */
+    public static <A, B, R> Stream<R> zipWith(Stream<? extends A> first, Stream<? extends B> second,
+                                              BiFunction<? super A, ? super B, ? extends R> zipper) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        Objects.requireNonNull(zipper);
+        ZipSpliterator<A, B, R> spliterator = new ZipSpliterator<>(first.spliterator(), second.spliterator(), zipper);
+        return StreamSupport.stream(spliterator, first.isParallel() || second.isParallel())
+                .onClose(() -> {
+                    try {
+                        first.close();
+                    } finally {
+                        second.close();
+                    }
+                });
+    }
+
+    /**
+     * Splits a stream of pairs into the list of the first elements and the list of the second elements, keeping the
+     * encounter order. It can be used on parallel streams; see {@link #unzip(Stream)} to presize the lists.
+     *
+     * @param <A> Type of the first elements
+     * @param <B> Type of the second elements
+     * @return a collector returning the first elements first and the second elements second
+     */
+    public static <A, B> Collector<Tuple2<? extends A, ? extends B>, ?, Tuple2<List<A>, List<B>>> unzip() {
+        return Collector.of(
+                Columns<A, B>::new,
+                Columns::add,
+                Columns::combine,
+                Columns::result);
+    }
+
+    /**
+     * Splits a stream of pairs into the list of the first elements and the list of the second elements in a single
+     * pass. When the stream is sequential and knows its size, both lists are allocated with that size up front.
+     *
+     * @param pairs the stream to split
+     * @param <A>   Type of the first elements
+     * @param <B>   Type of the second elements
+     * @return the first elements first and the second elements second
+     */
+    public static <A, B> Tuple2<List<A>, List<B>> unzip(Stream<? extends Tuple2<? extends A, ? extends B>> pairs) {
+        Objects.requireNonNull(pairs);
+        if (pairs.isParallel()) {
+            return pairs.collect(Tuple2Streams.<A, B>unzip());
+        }
+        Spliterator<? extends Tuple2<? extends A, ? extends B>> spliterator = pairs.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+        Columns<A, B> columns = size >= 0 && size <= Integer.MAX_VALUE ? new Columns<>((int) size) : new Columns<>();
+        spliterator.forEachRemaining(columns::add);
+        return columns.result();
+    }
+
+    private static final class Columns<A, B> {
+        private final List<A> firsts;
+        private final List<B> seconds;
+
+        private Columns() {
+            this.firsts = new ArrayList<>();
+            this.seconds = new ArrayList<>();
+        }
+
+        private Columns(int capacity) {
+            this.firsts = new ArrayList<>(capacity);
+            this.seconds = new ArrayList<>(capacity);
+        }
+
+        private void add(Tuple2<? extends A, ? extends B> pair) {
+            firsts.add(pair.first());
+            seconds.add(pair.second());
+        }
+
+        private Columns<A, B> combine(Columns<A, B> other) {
+            firsts.addAll(other.firsts);
+            seconds.addAll(other.seconds);
+            return this;
+        }
+
+        private Tuple2<List<A>, List<B>> result() {
+            return Tuple2.of(firsts, seconds);
+        }
+    }
+
+    /**
+     * Advances both sources together. It splits only when both sources have the same exact size: each one is split,
+     * and if both prefixes have the same size they are zipped together. If the sources split at different points,
+     * each source is stitched back from its two parts and this spliterator stops splitting. Sources of different sizes
+     * are never split, since a spliterator cannot be cut at a chosen position to drop the extra elements of the longer
+     * one.
+     */
+    private static final class ZipSpliterator<A, B, R> implements Spliterator<R> {
+        private static final int SPLIT_CHARACTERISTICS = SIZED | SUBSIZED;
+
+        private Spliterator<? extends A> first;
+        private Spliterator<? extends B> second;
+        private final BiFunction<? super A, ? super B, ? extends R> zipper;
+        private boolean splittable = true;
+        private A current;
+
+        private ZipSpliterator(Spliterator<? extends A> first, Spliterator<? extends B> second,
+                               BiFunction<? super A, ? super B, ? extends R> zipper) {
+            this.first = first;
+            this.second = second;
+            this.zipper = zipper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            Objects.requireNonNull(action);
+            if (!first.tryAdvance(this::setCurrent)) {
+                return false;
+            }
+            A element = current;
+            current = null;
+            return second.tryAdvance(other -> action.accept(zipper.apply(element, other)));
+        }
+
+        private void setCurrent(A element) {
+            current = element;
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            if (!splittable || !hasExactSplits()) {
+                return null;
+            }
+            long size = first.getExactSizeIfKnown();
+            if (size != second.getExactSizeIfKnown()) {
+                return null;
+            }
+            Spliterator<? extends A> firstPrefix = first.trySplit();
+            if (firstPrefix == null) {
+                return null;
+            }
+            Spliterator<? extends B> secondPrefix = second.trySplit();
+            if (secondPrefix != null
+                    && firstPrefix.getExactSizeIfKnown() == secondPrefix.getExactSizeIfKnown()) {
+                return new ZipSpliterator<>(firstPrefix, secondPrefix, zipper);
+            }
+            splittable = false;
+            first = new ConcatSpliterator<>(firstPrefix, first);
+            if (secondPrefix != null) {
+                second = new ConcatSpliterator<>(secondPrefix, second);
+            }
+            return null;
+        }
+
+        private boolean hasExactSplits() {
+            return (first.characteristics() & SPLIT_CHARACTERISTICS) == SPLIT_CHARACTERISTICS
+                    && (second.characteristics() & SPLIT_CHARACTERISTICS) == SPLIT_CHARACTERISTICS;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.min(first.estimateSize(), second.estimateSize());
+        }
+
+        @Override
+        public int characteristics() {
+            int both = first.characteristics() & second.characteristics();
+            int result = both & (ORDERED | SIZED);
+            return splittable ? result | (both & SUBSIZED) : result;
+        }
+    }
+
+    /**
+     * The elements of one spliterator followed by the elements of another, without splitting.
+     */
+    private static final class ConcatSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<? extends T> head;
+        private final Spliterator<? extends T> tail;
+        private boolean headDone;
+
+        private ConcatSpliterator(Spliterator<? extends T> head, Spliterator<? extends T> tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (!headDone) {
+                if (head.tryAdvance(action)) {
+                    return true;
+                }
+                headDone = true;
+            }
+            return tail.tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = (headDone ? 0 : head.estimateSize()) + tail.estimateSize();
+            return size < 0 ? Long.MAX_VALUE : size;
+        }
+
+        @Override
+        public int characteristics() {
+            return head.characteristics() & tail.characteristics() & (ORDERED | SIZED);
+        }
+    }
+}
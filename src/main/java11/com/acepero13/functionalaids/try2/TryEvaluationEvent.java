@@ -0,0 +1,66 @@
+package com.acepero13.functionalaids.try2;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Java Flight Recorder event describing the evaluation of a computation wrapped in a Try.
+ * <p>
+ * The event is disabled by default. Enable it in the recording settings, e.g.
+ * {@code -XX:StartFlightRecording:com.acepero13.functionalaids.TryEvaluation#enabled=true}.
+ * This class is compiled for Java 11 and only loaded when the running JVM ships Flight Recorder, see
+ * {@link TryEvents}.
+ */
+@Name(TryEvaluationEvent.NAME)
+@Label("Try Evaluation")
+@Category({"Functional Aids", "Try"})
+@Description("Evaluation of a computation wrapped in a Try")
+@Enabled(false)
+@StackTrace(false)
+final class TryEvaluationEvent extends Event {
+
+    static final String NAME = "com.acepero13.functionalaids.TryEvaluation";
+
+    private static final EventType TYPE = EventType.getEventType(TryEvaluationEvent.class);
+
+    @Label("Name")
+    @Description("Name given to the computation, if any")
+    String name;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+
+    static <T> Try<T> evaluate(String name, Supplier<T> ofThrowable) {
+        TryEvaluationEvent event = new TryEvaluationEvent();
+        event.name = name;
+        event.begin();
+        T value;
+        try {
+            value = ofThrowable.get();
+        } catch (Exception e) {
+            event.end();
+            event.exceptionClass = e.getClass();
+            event.commit();
+            return Try.failure(e);
+        }
+        event.end();
+        event.success = true;
+        event.commit();
+        return Try.success(value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.acepero13.functionalaids.try2;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link TryEvents.Recorder} emitting {@link TryEvaluationEvent}s, loaded by name by {@link TryEvents}.
+ */
+final class TryEvaluationRecorder implements TryEvents.Recorder {
+
+    @Override
+    public boolean isRecording() {
+        return TryEvaluationEvent.isTypeEnabled();
+    }
+
+    @Override
+    public <T> Try<T> evaluate(String name, Supplier<T> ofThrowable) {
+        return TryEvaluationEvent.evaluate(name, ofThrowable);
+    }
+}
@@ -0,0 +1,60 @@
+package com.acepero13.functionalaids.either;
+
+import com.acepero13.functionalaids.tuple.Tuple2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherCollectorsTest {
+
+    private Either<String, Integer> validate(int i) {
+        return i % 2 == 0 ? Either.right(i) : Either.left(() -> "odd " + i);
+    }
+
+    @Test
+    void partitionSplitsLeftsFromRights() {
+        Tuple2<List<String>, List<Integer>> actual = Arrays.asList(1, 2, 3, 4).stream()
+                .map(this::validate)
+                .collect(EitherCollectors.partition());
+
+        assertEquals(Arrays.asList("odd 1", "odd 3"), actual.first());
+        assertEquals(Arrays.asList(2, 4), actual.second());
+    }
+
+    @Test
+    void partitionOnParallelStreamKeepsOrder() {
+        Tuple2<List<String>, List<Integer>> actual = IntStream.range(0, 10_000).parallel()
+                .mapToObj(this::validate)
+                .collect(EitherCollectors.partition());
+
+        List<Integer> expected = IntStream.range(0, 10_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+        assertEquals(expected, actual.second());
+        assertEquals(5_000, actual.first().size());
+        assertEquals("odd 1", actual.first().get(0));
+    }
+
+    @Test
+    void sequenceOfRights() {
+        Either<String, List<Integer>> actual = Arrays.asList(2, 4).stream()
+                .map(this::validate)
+                .collect(EitherCollectors.sequence());
+        assertEquals(Either.right(Arrays.asList(2, 4)), actual);
+    }
+
+    @Test
+    void sequenceReturnsFirstLeftInEncounterOrder() {
+        Either<String, List<Integer>> actual = IntStream.range(0, 10_000).parallel()
+                .map(i -> i < 5_000 ? i * 2 : i)
+                .mapToObj(this::validate)
+                .collect(EitherCollectors.sequence());
+
+        assertTrue(actual.isLeft());
+        assertEquals("odd 5001", actual.fold(s -> s, l -> "right"));
+    }
+}
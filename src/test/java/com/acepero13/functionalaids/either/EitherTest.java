@@ -8,6 +8,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -193,6 +194,58 @@ class EitherTest {
         assertNotNull(err);
     }
 
+    @Test
+    void commonRightsAreCanonical() {
+        assertSame(Either.right(true), Either.right(true));
+        assertSame(Either.right(null), Either.right(null));
+        assertSame(Either.right(""), Either.right(""));
+        assertSame(Either.right(0), one.map(i -> i - 1));
+    }
+
+    @Test
+    void filterOrElseKeepsTheRightWhenConditionHolds() {
+        Either<String, Integer> thousand = Either.right(1000);
+        assertSame(thousand, thousand.filterOrElse(i -> i > 0, () -> -1));
+    }
+
+    @Test
+    void cachedRightsBehaveLikeAnyOther() {
+        assertEquals(Either.right(1000).map(i -> i / 1000), one);
+        assertEquals(one.hashCode(), Either.right(1000).map(i -> i / 1000).hashCode());
+        assertEquals(Either.right(null), Either.right("a").map(s -> null));
+    }
+
+    @Test
+    void leftPropagatesWithoutAllocating() {
+        assertSame(err, err.map(i -> i + 1));
+        assertSame(err, err.flatMap(i -> Either.right(i + 1)));
+        assertSame(err, err.filterOrElse(i -> true, () -> 1));
+    }
+
+    @Test
+    void eagerLeftHoldsItsError() {
+        Either<String, Integer> eager = Either.left("Error");
+
+        assertTrue(eager.isLeft());
+        assertEquals("Error", eager.fold(e -> e, i -> "right"));
+        assertEquals(err, eager);
+        assertEquals(err.hashCode(), eager.hashCode());
+    }
+
+    @Test
+    void lazyLeftEvaluatesItsErrorOnce() {
+        AtomicReference<Integer> calls = new AtomicReference<>(0);
+        Either<String, Integer> lazy = Either.left(() -> {
+            calls.set(calls.get() + 1);
+            return "Error";
+        });
+
+        lazy.fold(e -> e, i -> "right");
+        lazy.map(i -> i + 1).fold(e -> e, i -> "right");
+
+        assertEquals(1, calls.get());
+    }
+
     // Subclasses
 
     private static abstract class Animal {
@@ -0,0 +1,119 @@
+package com.acepero13.functionalaids.either;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatedTest {
+
+    private static Validated<String, String> name(String name) {
+        return name.isEmpty() ? Validated.invalid("empty name") : Validated.valid(name);
+    }
+
+    private static Validated<String, Integer> age(int age) {
+        return age < 0 ? Validated.invalid("negative age") : Validated.valid(age);
+    }
+
+    @Test
+    void combineOfValidValuesCombinesThem() {
+        Validated<String, String> actual = name("ann").combine(age(30), (n, a) -> n + " " + a);
+
+        assertTrue(actual.isValid());
+        assertEquals("ann 30", actual.getOrElse(() -> "none"));
+        assertEquals(0, actual.errorCount());
+    }
+
+    @Test
+    void combineAccumulatesTheErrorsOfBoth() {
+        Validated<String, String> actual = name("").combine(age(-1), (n, a) -> n + " " + a);
+
+        assertTrue(actual.isInvalid());
+        assertEquals(Arrays.asList("empty name", "negative age"), actual.errors());
+    }
+
+    @Test
+    void combineKeepsTheErrorsOfTheInvalidSide() {
+        assertEquals(Collections.singletonList("negative age"),
+                name("ann").combine(age(-1), (n, a) -> n + a).errors());
+        assertEquals(Collections.singletonList("empty name"),
+                name("").combine(age(1), (n, a) -> n + a).errors());
+    }
+
+    @Test
+    void mapAndFlatMapOnlyApplyToValidValues() {
+        assertEquals(Validated.valid(3), name("ann").map(String::length));
+        assertEquals(Validated.invalid("empty name"), name("").map(String::length));
+        assertEquals(Validated.invalid("negative age"), age(1).flatMap(a -> age(-a)));
+    }
+
+    @Test
+    void validateReportsEveryFailedCheckInOrder() {
+        List<Function<String, Validated<String, ?>>> checks = Arrays.asList(
+                s -> s.length() > 3 ? Validated.valid(s) : Validated.invalid("too short"),
+                s -> s.startsWith("a") ? Validated.valid(s) : Validated.invalid("must start with a"),
+                s -> s.contains(" ") ? Validated.invalid("no spaces") : Validated.valid(s));
+
+        assertEquals(Validated.valid("abcd"), Validated.validate("abcd", checks));
+        assertEquals(Arrays.asList("too short", "must start with a", "no spaces"),
+                Validated.validate("b c", checks).errors());
+    }
+
+    @Test
+    void parallelValidateKeepsTheOrderOfTheChecks() {
+        List<Function<Integer, Validated<Integer, ?>>> checks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int check = i;
+            checks.add(v -> check % 3 == 0 ? Validated.invalid(check) : Validated.valid(v));
+        }
+
+        Validated<Integer, Integer> actual = Validated.parallelValidate(7, checks);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 3) {
+            expected.add(i);
+        }
+        assertEquals(expected, actual.errors());
+        assertEquals(Validated.valid(7), Validated.parallelValidate(7, checks.subList(1, 3)));
+    }
+
+    @Test
+    void sequenceCollectsAllValuesOrAllErrors() {
+        assertEquals(Validated.valid(Arrays.asList(1, 2)), Validated.sequence(Arrays.asList(age(1), age(2))));
+        assertEquals(Arrays.asList("negative age", "negative age"),
+                Validated.sequence(Arrays.asList(age(-1), age(2), age(-3))).errors());
+    }
+
+    @Test
+    void longChainsOfErrorsDoNotOverflowTheStack() {
+        Validated<Integer, Integer> actual = Validated.valid(0);
+        for (int i = 0; i < 100_000; i++) {
+            actual = actual.and(Validated.invalid(i));
+        }
+
+        assertEquals(100_000, actual.errorCount());
+        assertEquals(Integer.valueOf(99_999), actual.errors().get(99_999));
+    }
+
+    @Test
+    void convertsToAndFromEither() {
+        Either<String, Integer> right = Either.right(1);
+        Either<String, Integer> left = Either.left(() -> "error");
+
+        assertEquals(Validated.valid(1), Validated.fromEither(right));
+        assertEquals(Validated.invalid("error"), Validated.fromEither(left));
+        assertEquals(Either.right(1), Validated.fromEither(right).toEither());
+        List<String> errors = Validated.<String, Integer>invalid("error").and(Validated.invalid("other"))
+                .toEither()
+                .fold(Function.identity(), v -> Collections.emptyList());
+        assertEquals(Arrays.asList("error", "other"), errors);
+        assertFalse(Validated.fromEither(left).toEither().isRight());
+    }
+}
@@ -0,0 +1,278 @@
+package com.acepero13.functionalaids.flow;
+
+import com.acepero13.functionalaids.either.Either;
+import com.acepero13.functionalaids.try2.Try;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryFlowTest {
+
+    /**
+     * Publishes the given elements as they are requested, in the thread requesting them.
+     */
+    private static final class ListPublisher<T> implements Publisher<T>, Subscription {
+        private final List<T> items;
+        private final Throwable error;
+        private final List<Long> requests = new CopyOnWriteArrayList<>();
+        private Subscriber<? super T> subscriber;
+        private long demand;
+        private int next;
+        private boolean emitting;
+        private volatile boolean cancelled;
+
+        private ListPublisher(List<T> items, Throwable error) {
+            this.items = items;
+            this.error = error;
+        }
+
+        private ListPublisher(List<T> items) {
+            this(items, null);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public synchronized void request(long n) {
+            requests.add(n);
+            demand += n;
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            while (demand > 0 && next < items.size() && !cancelled) {
+                demand--;
+                subscriber.onNext(items.get(next++));
+            }
+            if (next == items.size() && !cancelled) {
+                cancelled = true;
+                if (error != null) {
+                    subscriber.onError(error);
+                } else {
+                    subscriber.onComplete();
+                }
+            }
+            emitting = false;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Subscriber<T> {
+        private final long initialRequest;
+        private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        private RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    private static Integer parse(String value) {
+        return Integer.parseInt(value);
+    }
+
+    @Test
+    void mapEmitsATryPerElement() {
+        ListPublisher<String> publisher = new ListPublisher<>(Arrays.asList("1", "x", "3"));
+        Processor<String, Try<Integer>> processor = TryFlow.map(TryFlowTest::parse);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(3, subscriber.items.size());
+        assertEquals(Try.success(1), subscriber.items.get(0));
+        assertTrue(subscriber.items.get(1).isFailure());
+        assertEquals(Try.success(3), subscriber.items.get(2));
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void mapOrDeadLetterRoutesFailuresToTheSideChannel() {
+        List<String> deadLetters = new ArrayList<>();
+        ListPublisher<String> publisher = new ListPublisher<>(Arrays.asList("1", "x", "3", "y"));
+        Processor<String, Integer> processor = TryFlow.mapOrDeadLetter(TryFlowTest::parse,
+                (item, error) -> deadLetters.add(item));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertEquals(Arrays.asList(1, 3), subscriber.items);
+        assertEquals(Arrays.asList("x", "y"), deadLetters);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void rightsOrDeadLetterRoutesLeftsToTheSideChannel() {
+        List<String> deadLetters = new ArrayList<>();
+        ListPublisher<Integer> publisher = new ListPublisher<>(Arrays.asList(1, 2, 3, 4));
+        Processor<Integer, Integer> processor = TryFlow.rightsOrDeadLetter(
+                i -> i % 2 == 0 ? Either.right(i) : Either.left("odd"), (item, error) -> deadLetters.add(item + error));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(Arrays.asList(2, 4), subscriber.items);
+        assertEquals(Arrays.asList("1odd", "3odd"), deadLetters);
+    }
+
+    @Test
+    void demandIsBoundedAndReplenishedInBatches() {
+        List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        ListPublisher<Integer> publisher = new ListPublisher<>(items);
+        Processor<Integer, Try<Integer>> processor = TryFlow.map(i -> i, 8);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(3);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(3, subscriber.items.size());
+        assertEquals(Collections.singletonList(8L), publisher.requests);
+
+        subscriber.subscription.request(20);
+
+        assertEquals(23, subscriber.items.size());
+        assertTrue(publisher.requests.subList(1, publisher.requests.size()).stream().allMatch(n -> n == 6L));
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(100, subscriber.items.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void cancelStopsTheUpstream() {
+        ListPublisher<Integer> publisher = new ListPublisher<>(Arrays.asList(1, 2, 3));
+        Processor<Integer, Try<Integer>> processor = TryFlow.map(i -> i);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(0);
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        publisher.subscribe(processor);
+
+        assertTrue(publisher.cancelled);
+        assertTrue(subscriber.items.isEmpty());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void upstreamErrorsArriveAfterTheQueuedElements() {
+        IllegalStateException error = new IllegalStateException("error");
+        ListPublisher<Integer> publisher = new ListPublisher<>(Arrays.asList(1, 2), error);
+        Processor<Integer, Try<Integer>> processor = TryFlow.map(i -> i);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(1);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        assertNull(subscriber.error);
+
+        subscriber.subscription.request(1);
+
+        assertEquals(2, subscriber.items.size());
+        assertEquals(error, subscriber.error);
+    }
+
+    @Test
+    void nonPositiveRequestsFailTheStream() {
+        ListPublisher<Integer> publisher = new ListPublisher<>(Arrays.asList(1, 2));
+        Processor<Integer, Try<Integer>> processor = TryFlow.map(i -> i);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(0);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    void aSecondSubscriberIsRejected() {
+        Processor<Integer, Try<Integer>> processor = TryFlow.map(i -> i);
+        processor.subscribe(new RecordingSubscriber<>(0));
+        RecordingSubscriber<Try<Integer>> second = new RecordingSubscriber<>(1);
+
+        processor.subscribe(second);
+
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    void deliversEveryElementInOrderAcrossThreads() throws Exception {
+        int count = 100_000;
+        List<Integer> items = IntStream.range(0, count).boxed().collect(Collectors.toList());
+        ListPublisher<Integer> publisher = new ListPublisher<>(items);
+        Processor<Integer, Try<Integer>> processor = TryFlow.map(i -> i * 2, 32);
+        RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(0);
+        processor.subscribe(subscriber);
+        Thread producer = new Thread(() -> publisher.subscribe(processor));
+        producer.start();
+
+        Thread consumer = new Thread(() -> {
+            for (int i = 0; i < count / 10; i++) {
+                subscriber.subscription.request(10);
+            }
+        });
+        consumer.start();
+
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        producer.join();
+        consumer.join();
+        assertEquals(count, subscriber.items.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(Integer.valueOf(i * 2), subscriber.items.get(i).getSilent());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+
+    private static Integer sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return 1;
+    }
+
+    private static boolean isTimeout(Try<?> value) {
+        return value.fold(e -> e instanceof TimeoutFailure, v -> false);
+    }
+
+    @Test
+    void withTimeoutReturnsTheOutcomeOfAFastComputation() {
+        Try<Integer> result = Try.withTimeout(() -> 1, Duration.ofSeconds(5));
+
+        assertEquals(Integer.valueOf(1), result.getSilent());
+    }
+
+    @Test
+    void withTimeoutKeepsTheFailureOfAFastComputation() {
+        Try<Integer> result = Try.withTimeout(() -> {
+            throw new IllegalArgumentException("error");
+        }, Duration.ofSeconds(5));
+
+        assertTrue(result.fold(e -> e instanceof IllegalArgumentException, v -> false));
+    }
+
+    @Test
+    void withTimeoutInterruptsABlockingComputation() {
+        long start = System.nanoTime();
+
+        Try<Integer> result = Try.withTimeout(() -> sleep(10_000), Duration.ofMillis(50));
+
+        assertTrue(isTimeout(result));
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void withTimeoutKeepsAnInterruptTheComputationAlreadyHad() {
+        Try<Integer> result = Try.withTimeout(() -> {
+            Thread.currentThread().interrupt();
+            long end = System.nanoTime() + Duration.ofMillis(200).toNanos();
+            while (System.nanoTime() < end) {
+                Thread.yield();
+            }
+            return 1;
+        }, Duration.ofMillis(20));
+
+        assertTrue(isTimeout(result));
+        assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void deadlineRunsAllStagesWithinTheBudget() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+        Try<Integer> result = deadline.of(() -> 1)
+                .map(v -> v + 1)
+                .flatMap(v -> Try.success(v * 10))
+                .filter(v -> v > 0);
+
+        assertEquals(Integer.valueOf(20), result.getSilent());
+        assertFalse(deadline.isExpired());
+    }
+
+    @Test
+    void stagesAreSkippedOnceTheBudgetIsSpent() {
+        AtomicInteger calls = new AtomicInteger();
+        Deadline deadline = Deadline.after(Duration.ofMillis(50));
+
+        Try<Integer> result = deadline.of(() -> sleep(100))
+                .orElse(() -> Try.success(calls.incrementAndGet()))
+                .map(v -> calls.incrementAndGet());
+
+        assertTrue(isTimeout(result));
+        assertEquals(0, calls.get());
+        assertTrue(deadline.isExpired());
+    }
+
+    @Test
+    void aSlowStageIsInterruptedWithTheRemainingBudget() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(100));
+
+        Try<Integer> result = deadline.of(() -> 1)
+                .map(v -> sleep(10_000));
+
+        assertTrue(isTimeout(result));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void exceptionsFromAStagePropagateLikeTryMap() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+        Try<Integer> value = deadline.of(() -> 1);
+
+        assertThrows(IllegalStateException.class, () -> value.map(v -> {
+            throw new IllegalStateException("error");
+        }));
+        assertThrows(IllegalStateException.class, () -> value.flatMap(v -> {
+            throw new IllegalStateException("error");
+        }));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void failuresPropagateWithoutCheckingTheDeadline() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+        Try<Integer> failure = deadline.bind(Try.failure(new IllegalStateException("error")));
+
+        assertTrue(failure.map(v -> v + 1).fold(e -> e instanceof IllegalStateException, v -> false));
+    }
+
+    @Test
+    void bindingTwiceKeepsTheSameTry() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+        Try<Integer> bound = deadline.bind(Try.success(1));
+
+        assertTrue(bound == deadline.bind(bound));
+    }
+}
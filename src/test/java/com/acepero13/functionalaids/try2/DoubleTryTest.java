@@ -0,0 +1,136 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class DoubleTryTest {
+    private final Exception error = new Exception("error");
+    private final DoubleTry err = DoubleTry.failure(error);
+    private final DoubleTry half = DoubleTry.success(0.5);
+
+    @Test
+    void doubleUsingMap() {
+        assertEquals(DoubleTry.success(1.0), half.map(d -> d * 2));
+        assertSame(err, err.map(d -> d * 2));
+    }
+
+    @Test
+    void ofCapturesException() {
+        assertTrue(DoubleTry.of(() -> Double.parseDouble("x")).isFailure());
+        assertEquals(half, DoubleTry.of(() -> Double.parseDouble("0.5")));
+    }
+
+    @Test
+    void equalsHandlesNaN() {
+        assertEquals(DoubleTry.success(Double.NaN), DoubleTry.success(Double.NaN));
+        assertEquals(DoubleTry.success(Double.NaN).hashCode(), DoubleTry.success(0.0 / 0.0).hashCode());
+        assertEquals(DoubleTry.success(Double.NaN), half.map(d -> Math.sqrt(-d)));
+    }
+
+    @Test
+    void equalsDistinguishesNegativeZero() {
+        assertEquals(DoubleTry.success(-0.0), DoubleTry.success(-0.0));
+        assertNotEquals(DoubleTry.success(0.0), DoubleTry.success(-0.0));
+        assertEquals(Try.success(-0.0).equals(Try.success(0.0)),
+                DoubleTry.success(-0.0).equals(DoubleTry.success(0.0)));
+    }
+
+    @Test
+    void equalsComparesValues() {
+        assertEquals(DoubleTry.success(0.5).hashCode(), half.hashCode());
+        assertNotEquals(DoubleTry.success(0.25), half);
+        assertNotEquals(err, DoubleTry.failure(error));
+    }
+
+    @Test
+    void mapToOtherTypes() {
+        assertEquals(Try.success("0.5"), half.mapToObj(String::valueOf));
+        assertEquals(IntTry.success(5), half.mapToInt(d -> (int) (d * 10)));
+        assertEquals(LongTry.success(5L), half.mapToLong(d -> (long) (d * 10)));
+        assertTrue(err.mapToObj(String::valueOf).isFailure());
+        assertTrue(err.mapToInt(d -> (int) d).isFailure());
+        assertTrue(err.mapToLong(d -> (long) d).isFailure());
+    }
+
+    @Test
+    void flatMapChainsDoubleTry() {
+        assertEquals(DoubleTry.success(1.0), half.flatMap(d -> DoubleTry.success(d * 2)));
+        assertSame(err, err.flatMap(d -> DoubleTry.success(d * 2)));
+    }
+
+    @Test
+    void orElseReturnsDefaultOnFailure() {
+        assertEquals(half, err.orElse(() -> half));
+        assertSame(half, half.orElse(() -> err));
+    }
+
+    @Test
+    void filterReturnsFailureIfPredicateDoesNotHold() {
+        assertSame(half, half.filter(d -> d < 1));
+        assertTrue(half.filter(d -> d > 1).fold(t -> t instanceof PredicateFailedException, d -> false));
+        assertSame(err, err.filter(d -> true));
+    }
+
+    @Test
+    void filterWithErrorReturnsFailureHoldingTheSuppliedError() {
+        assertSame(half, half.filter(d -> d < 1, () -> {
+            fail("error requested although the predicate holds");
+            return error;
+        }));
+        assertSame(error, half.filter(d -> d > 1, () -> error).fold(t -> t, d -> null));
+        assertSame(err, err.filter(d -> true, IllegalStateException::new));
+    }
+
+    @Test
+    void getOrElse() {
+        assertEquals(0.5, half.getOrElse(2.0));
+        assertEquals(2.0, err.getOrElse(2.0));
+        assertEquals(2.0, err.getOrElse(() -> 2.0));
+    }
+
+    @Test
+    void foldWithoutBoxing() {
+        assertEquals(1.5, half.foldToDouble(t -> -1.0, d -> d + 1));
+        assertEquals(-1.0, err.foldToDouble(t -> -1.0, d -> d + 1));
+    }
+
+    @Test
+    void sideEffects() {
+        AtomicReference<Double> reference = new AtomicReference<>();
+        half.ifSuccess(reference::set);
+        half.ifFailure(t -> fail("Should not have a failure"));
+        err.ifSuccess(d -> fail("Should not have a success"));
+        err.ifFailure(t -> assertSame(error, t));
+        assertEquals(Double.valueOf(0.5), reference.get());
+    }
+
+    @Test
+    void getValue() throws Throwable {
+        assertEquals(0.5, half.get());
+        assertEquals(0.5, half.getSilent());
+        assertThrows(Exception.class, err::get);
+        assertThrows(RuntimeException.class, err::getSilent);
+    }
+
+    @Test
+    void convertsToAndFromTry() {
+        assertEquals(Try.success(0.5), half.boxed());
+        assertTrue(err.boxed().isFailure());
+        assertEquals(half, DoubleTry.fromTry(Try.success(0.5)));
+        assertTrue(DoubleTry.fromTry(Try.success(null)).isFailure());
+        assertEquals(half, Try.success("0.5").mapToDouble(Double::parseDouble));
+        assertFalse(Try.<String>failure(error).mapToDouble(Double::parseDouble).isSuccess());
+        assertEquals(OptionalDouble.of(0.5), half.toOptional());
+        assertEquals(OptionalDouble.empty(), err.toOptional());
+    }
+}
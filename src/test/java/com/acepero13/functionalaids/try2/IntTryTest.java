@@ -0,0 +1,129 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class IntTryTest {
+    private final Exception error = new Exception("error");
+    private final IntTry err = IntTry.failure(error);
+    private final IntTry one = IntTry.success(1);
+
+    @Test
+    void incrementUsingMap() {
+        assertEquals(IntTry.success(2), one.map(i -> i + 1));
+    }
+
+    @Test
+    void mapAFailureReturnsSameFailure() {
+        assertSame(err, err.map(i -> i + 1));
+    }
+
+    @Test
+    void ofCapturesException() {
+        //noinspection divzero ,NumericOverflow (It is intended this way, to test runtime exceptions)
+        assertTrue(IntTry.of(() -> 10 / 0).isFailure());
+        assertEquals(IntTry.success(5), IntTry.of(() -> 10 / 2));
+    }
+
+    @Test
+    void mapToObjReturnsGenericTry() {
+        assertEquals(Try.success("1"), one.mapToObj(String::valueOf));
+        assertTrue(err.mapToObj(String::valueOf).isFailure());
+    }
+
+    @Test
+    void mapToOtherPrimitives() {
+        assertEquals(LongTry.success(10L), one.mapToLong(i -> i * 10L));
+        assertEquals(DoubleTry.success(0.5), one.mapToDouble(i -> i / 2.0));
+    }
+
+    @Test
+    void flatMapChainsIntTry() {
+        assertEquals(IntTry.success(2), one.flatMap(i -> IntTry.success(i + 1)));
+        assertSame(err, err.flatMap(i -> IntTry.success(i + 1)));
+    }
+
+    @Test
+    void orElseReturnsDefaultOnFailure() {
+        assertEquals(one, err.orElse(() -> one));
+        assertSame(one, one.orElse(() -> err));
+    }
+
+    @Test
+    void filterReturnsFailureIfPredicateDoesNotHold() {
+        assertSame(one, one.filter(i -> i == 1));
+        assertTrue(one.filter(i -> i > 1).foldToInt(t -> t instanceof PredicateFailedException ? 1 : 0, i -> -1) == 1);
+    }
+
+    @Test
+    void filterWithErrorReturnsFailureHoldingTheSuppliedError() {
+        assertSame(one, one.filter(i -> i == 1, () -> {
+            fail("error requested although the predicate holds");
+            return error;
+        }));
+        assertSame(error, one.filter(i -> i > 1, () -> error).fold(t -> t, i -> null));
+        assertSame(err, err.filter(i -> true, IllegalStateException::new));
+    }
+
+    @Test
+    void getOrElse() {
+        assertEquals(1, one.getOrElse(10));
+        assertEquals(10, err.getOrElse(10));
+        assertEquals(10, err.getOrElse(() -> 10));
+    }
+
+    @Test
+    void foldWithoutBoxing() {
+        assertEquals(2, one.foldToInt(t -> -1, i -> i + 1));
+        assertEquals(-1, err.foldToInt(t -> -1, i -> i + 1));
+    }
+
+    @Test
+    void foldToObject() {
+        String actual = one.fold(t -> "failure", String::valueOf);
+        assertEquals("1", actual);
+    }
+
+    @Test
+    void sideEffects() {
+        AtomicInteger reference = new AtomicInteger();
+        one.ifSuccess(reference::set);
+        one.ifFailure(t -> fail("Should not have a failure"));
+        err.ifSuccess(i -> fail("Should not have a success"));
+        err.ifFailure(t -> assertSame(error, t));
+        assertEquals(1, reference.get());
+    }
+
+    @Test
+    void getValue() throws Throwable {
+        assertEquals(1, one.get());
+        assertEquals(1, one.getSilent());
+        assertThrows(Exception.class, err::get);
+        assertThrows(RuntimeException.class, err::getSilent);
+    }
+
+    @Test
+    void toOptional() {
+        assertEquals(OptionalInt.of(1), one.toOptional());
+        assertEquals(OptionalInt.empty(), err.toOptional());
+    }
+
+    @Test
+    void convertsToAndFromTry() {
+        assertEquals(Try.success(1), one.boxed());
+        assertEquals(one, IntTry.fromTry(Try.success(1)));
+        assertTrue(IntTry.fromTry(Try.failure(error)).isFailure());
+        assertTrue(IntTry.fromTry(Try.success(null)).isFailure());
+        assertEquals(one, Try.success("1").mapToInt(Integer::parseInt));
+        assertFalse(Try.<String>failure(error).mapToInt(Integer::parseInt).isSuccess());
+    }
+}
@@ -0,0 +1,117 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyTryTest {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    private Integer compute() {
+        evaluations.incrementAndGet();
+        return 1;
+    }
+
+    @Test
+    void doesNotEvaluateUntilNeeded() {
+        Try<Integer> lazy = Try.lazy(this::compute);
+        assertEquals(0, evaluations.get());
+
+        assertEquals(1, lazy.getOrElse(() -> 10));
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void composesMapAndFlatMapWithoutEvaluating() {
+        Try<Integer> lazy = Try.lazy(this::compute)
+                .map(i -> i + 1)
+                .flatMap(i -> Try.success(i * 10))
+                .filter(i -> i > 0);
+        assertEquals(0, evaluations.get());
+
+        Integer actual = lazy.fold(t -> -1, i -> i);
+        assertEquals(20, actual);
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void evaluatesOnlyOnce() {
+        Try<Integer> lazy = Try.lazy(this::compute);
+
+        lazy.isSuccess();
+        lazy.getSilent();
+        lazy.toOptional();
+
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void evaluatesOnlyOnceUnderConcurrentAccess() throws InterruptedException {
+        Try<Integer> lazy = Try.lazy(this::compute);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                lazy.getSilent();
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    void capturesExceptionAsFailure() {
+        //noinspection divzero ,NumericOverflow (It is intended this way, to test runtime exceptions)
+        Try<Integer> lazy = Try.lazy(() -> 10 / 0);
+
+        assertTrue(lazy.isFailure());
+        assertThrows(ArithmeticException.class, lazy::get);
+    }
+
+    @Test
+    void orElseIsAppliedLazily() {
+        Try<Integer> lazy = Try.<Integer>lazy(() -> {
+            throw new IllegalStateException("error");
+        }).orElse(() -> Try.success(2));
+
+        assertEquals(2, lazy.getSilent());
+    }
+
+    @Test
+    void primitiveMapsEvaluateRightAway() {
+        IntTry mapped = Try.lazy(this::compute).mapToInt(i -> i + 1);
+
+        assertEquals(1, evaluations.get());
+        assertEquals(IntTry.success(2), mapped);
+    }
+
+    @Test
+    void comparesLikeTheEvaluatedTry() {
+        Try<Integer> lazy = Try.lazy(this::compute);
+
+        assertEquals(Try.success(1), lazy);
+        assertEquals(lazy, Try.success(1));
+        assertEquals(Try.lazy(() -> 1), lazy);
+        assertEquals(Try.success(1).hashCode(), lazy.hashCode());
+        assertEquals(Try.success(1).toString(), lazy.toString());
+        assertFalse(lazy.equals(Try.success(2)));
+        assertEquals(1, evaluations.get());
+    }
+}
@@ -0,0 +1,129 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class LongTryTest {
+    private final Exception error = new Exception("error");
+    private final LongTry err = LongTry.failure(error);
+    private final LongTry one = LongTry.success(1L);
+
+    @Test
+    void incrementUsingMap() {
+        assertEquals(LongTry.success(2L), one.map(i -> i + 1));
+        assertSame(err, err.map(i -> i + 1));
+    }
+
+    @Test
+    void keepsValuesBeyondIntRange() {
+        LongTry big = LongTry.success(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, big.getSilent());
+        assertEquals(LongTry.success(Long.MIN_VALUE), big.map(i -> i + 1));
+    }
+
+    @Test
+    void ofCapturesException() {
+        assertTrue(LongTry.of(() -> Long.parseLong("x")).isFailure());
+        assertEquals(LongTry.success(42L), LongTry.of(() -> Long.parseLong("42")));
+    }
+
+    @Test
+    void equalsComparesValues() {
+        assertEquals(LongTry.success(7L), LongTry.success(7L));
+        assertEquals(LongTry.success(7L).hashCode(), LongTry.success(7L).hashCode());
+        assertNotEquals(LongTry.success(7L), LongTry.success(8L));
+        assertNotEquals(err, LongTry.failure(error));
+    }
+
+    @Test
+    void mapToOtherTypes() {
+        assertEquals(Try.success("1"), one.mapToObj(String::valueOf));
+        assertEquals(IntTry.success(1), one.mapToInt(i -> (int) i));
+        assertEquals(DoubleTry.success(0.5), one.mapToDouble(i -> i / 2.0));
+        assertTrue(err.mapToObj(String::valueOf).isFailure());
+        assertTrue(err.mapToInt(i -> (int) i).isFailure());
+        assertTrue(err.mapToDouble(i -> i / 2.0).isFailure());
+    }
+
+    @Test
+    void flatMapChainsLongTry() {
+        assertEquals(LongTry.success(2L), one.flatMap(i -> LongTry.success(i + 1)));
+        assertSame(err, err.flatMap(i -> LongTry.success(i + 1)));
+    }
+
+    @Test
+    void orElseReturnsDefaultOnFailure() {
+        assertEquals(one, err.orElse(() -> one));
+        assertSame(one, one.orElse(() -> err));
+    }
+
+    @Test
+    void filterReturnsFailureIfPredicateDoesNotHold() {
+        assertSame(one, one.filter(i -> i == 1));
+        assertTrue(one.filter(i -> i > 1).fold(t -> t instanceof PredicateFailedException, i -> false));
+        assertSame(err, err.filter(i -> true));
+    }
+
+    @Test
+    void filterWithErrorReturnsFailureHoldingTheSuppliedError() {
+        assertSame(one, one.filter(i -> i == 1, () -> {
+            fail("error requested although the predicate holds");
+            return error;
+        }));
+        assertSame(error, one.filter(i -> i > 1, () -> error).fold(t -> t, i -> null));
+        assertSame(err, err.filter(i -> true, IllegalStateException::new));
+    }
+
+    @Test
+    void getOrElse() {
+        assertEquals(1L, one.getOrElse(10L));
+        assertEquals(10L, err.getOrElse(10L));
+        assertEquals(10L, err.getOrElse(() -> 10L));
+    }
+
+    @Test
+    void foldWithoutBoxing() {
+        assertEquals(2L, one.foldToLong(t -> -1L, i -> i + 1));
+        assertEquals(-1L, err.foldToLong(t -> -1L, i -> i + 1));
+    }
+
+    @Test
+    void sideEffects() {
+        AtomicLong reference = new AtomicLong();
+        one.ifSuccess(reference::set);
+        one.ifFailure(t -> fail("Should not have a failure"));
+        err.ifSuccess(i -> fail("Should not have a success"));
+        err.ifFailure(t -> assertSame(error, t));
+        assertEquals(1L, reference.get());
+    }
+
+    @Test
+    void getValue() throws Throwable {
+        assertEquals(1L, one.get());
+        assertEquals(1L, one.getSilent());
+        assertThrows(Exception.class, err::get);
+        assertThrows(RuntimeException.class, err::getSilent);
+    }
+
+    @Test
+    void convertsToAndFromTry() {
+        assertEquals(Try.success(1L), one.boxed());
+        assertTrue(err.boxed().isFailure());
+        assertEquals(one, LongTry.fromTry(Try.success(1L)));
+        assertTrue(LongTry.fromTry(Try.success(null)).isFailure());
+        assertEquals(one, Try.success("1").mapToLong(Long::parseLong));
+        assertFalse(Try.<String>failure(error).mapToLong(Long::parseLong).isSuccess());
+        assertEquals(OptionalLong.of(1L), one.toOptional());
+        assertEquals(OptionalLong.empty(), err.toOptional());
+    }
+}
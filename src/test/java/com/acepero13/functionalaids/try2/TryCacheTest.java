@@ -0,0 +1,197 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Try<Integer> length(String key) {
+        loads.incrementAndGet();
+        return key.isEmpty()
+                ? Try.failure(new IllegalArgumentException("empty"))
+                : Try.success(key.length());
+    }
+
+    private TryCache<String, Integer> cache(int maximumSize) {
+        return new TryCache<>(this::length, maximumSize, Duration.ofSeconds(60), Duration.ofSeconds(1), now::get);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void loadsEachKeyOnce() {
+        TryCache<String, Integer> cache = cache(10);
+
+        Try<Integer> first = cache.apply("abc");
+        Try<Integer> second = cache.apply("abc");
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    void successesExpireAfterTheirTtl() {
+        TryCache<String, Integer> cache = cache(10);
+        cache.apply("abc");
+
+        advance(Duration.ofSeconds(59));
+        cache.apply("abc");
+        advance(Duration.ofSeconds(1));
+        cache.apply("abc");
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failuresExpireAfterTheirOwnTtl() {
+        TryCache<String, Integer> cache = cache(10);
+        assertTrue(cache.apply("").isFailure());
+
+        cache.apply("");
+        assertEquals(1, loads.get());
+
+        advance(Duration.ofSeconds(1));
+        cache.apply("");
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void aZeroFailureTtlNeverCachesFailures() {
+        TryCache<String, Integer> cache = new TryCache<>(this::length, 10, Duration.ofSeconds(60), Duration.ZERO,
+                now::get);
+
+        cache.apply("");
+        cache.apply("");
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void exceptionsThrownByTheLoaderBecomeFailures() {
+        TryCache<String, Integer> cache = new TryCache<>(k -> {
+            throw new IllegalStateException("error");
+        }, 10, Duration.ofSeconds(60), Duration.ofSeconds(1), now::get);
+
+        assertTrue(cache.apply("abc").fold(e -> e instanceof IllegalStateException, v -> false));
+    }
+
+    @Test
+    void checkedExceptionsThrownSneakilyByTheLoaderBecomeFailures() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TryCache<String, Integer> cache = new TryCache<>(k -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return sneakyThrow(new IOException("io"));
+        }, 10, Duration.ofSeconds(60), Duration.ofSeconds(1), now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Try<Integer>> first = executor.submit(() -> cache.apply("abc"));
+            while (cache.size() == 0) {
+                Thread.yield();
+            }
+            Future<Try<Integer>> second = executor.submit(() -> cache.apply("abc"));
+            release.countDown();
+
+            assertTrue(first.get(5, TimeUnit.SECONDS).fold(e -> e instanceof IOException, v -> false));
+            assertTrue(second.get(5, TimeUnit.SECONDS).fold(e -> e instanceof IOException, v -> false));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, E extends Throwable> T sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+    @Test
+    void evictsEntriesNotReadRecently() {
+        TryCache<String, Integer> cache = cache(2);
+        cache.apply("a");
+        cache.apply("bb");
+        cache.apply("a");
+
+        cache.apply("ccc");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+        cache.apply("a");
+        assertEquals(3, loads.get());
+        cache.apply("bb");
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void invalidateDiscardsEntries() {
+        TryCache<String, Integer> cache = cache(10);
+        cache.apply("a");
+        cache.apply("bb");
+
+        cache.invalidate("a");
+        assertEquals(1, cache.size());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void concurrentCallersOfTheSameKeyShareOneEvaluation() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TryCache<String, Integer> cache = TryCache.memoize(key -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return Try.success(key.length());
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Try<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.apply("abc")));
+            }
+            while (cache.size() == 0) {
+                Thread.yield();
+            }
+            release.countDown();
+            for (Future<Try<Integer>> result : results) {
+                assertEquals(Integer.valueOf(3), result.get(5, TimeUnit.SECONDS).getSilent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.misses());
+        assertEquals(7, cache.hits());
+    }
+}
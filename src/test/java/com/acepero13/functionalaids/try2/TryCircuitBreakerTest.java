@@ -0,0 +1,142 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final TryCircuitBreaker breaker = new TryCircuitBreaker(0.5, 4, Duration.ofSeconds(10),
+            Duration.ofSeconds(5), 0, now::get);
+
+    private Integer succeed() {
+        calls.incrementAndGet();
+        return 1;
+    }
+
+    private Integer fail() {
+        calls.incrementAndGet();
+        throw new IllegalStateException("error");
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.of(this::fail);
+        }
+    }
+
+    @Test
+    void closedBreakerEvaluatesComputations() {
+        assertEquals(Try.success(1), breaker.of(this::succeed));
+        assertTrue(breaker.of(this::fail).isFailure());
+        assertEquals(TryCircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        breaker.of(this::fail);
+        breaker.of(this::fail);
+        breaker.of(this::fail);
+        assertEquals(TryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void staysClosedBelowFailureRate() {
+        for (int i = 0; i < 10; i++) {
+            breaker.of(this::succeed);
+        }
+        breaker.of(this::fail);
+        breaker.of(this::fail);
+        assertEquals(TryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void opensWhenFailureRateIsReached() {
+        open();
+        assertEquals(TryCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void failureRateIsCheckedAtMostOncePerScanInterval() {
+        TryCircuitBreaker limited = new TryCircuitBreaker(0.5, 4, Duration.ofSeconds(10), Duration.ofSeconds(5),
+                Duration.ofMillis(1).toNanos(), now::get);
+        for (int i = 0; i < 4; i++) {
+            limited.of(this::fail);
+        }
+        assertEquals(TryCircuitBreaker.State.CLOSED, limited.state());
+
+        advance(Duration.ofMillis(1));
+        limited.of(this::fail);
+        assertEquals(TryCircuitBreaker.State.OPEN, limited.state());
+    }
+
+    @Test
+    void openBreakerRejectsWithSharedFailure() {
+        open();
+        int evaluated = calls.get();
+
+        Try<Integer> first = breaker.of(this::succeed);
+        Try<Integer> second = breaker.of(this::succeed);
+
+        assertSame(first, second);
+        assertTrue(first.fold(t -> t instanceof CircuitOpenException, i -> false));
+        assertEquals(evaluated, calls.get());
+        assertEquals(2, breaker.rejected());
+    }
+
+    @Test
+    void oldFailuresLeaveTheWindow() {
+        breaker.of(this::fail);
+        breaker.of(this::fail);
+        breaker.of(this::fail);
+        advance(Duration.ofSeconds(11));
+        breaker.of(this::fail);
+        assertEquals(TryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void successfulProbeClosesTheBreaker() {
+        open();
+        advance(Duration.ofSeconds(5));
+
+        assertEquals(Try.success(1), breaker.of(this::succeed));
+        assertEquals(TryCircuitBreaker.State.CLOSED, breaker.state());
+        breaker.of(this::fail);
+        assertEquals(TryCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void failedProbeOpensTheBreakerAgain() {
+        open();
+        advance(Duration.ofSeconds(5));
+
+        assertTrue(breaker.of(this::fail).isFailure());
+        assertEquals(TryCircuitBreaker.State.OPEN, breaker.state());
+        advance(Duration.ofSeconds(4));
+        assertTrue(breaker.of(this::succeed).fold(t -> t instanceof CircuitOpenException, i -> false));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TryCircuitBreaker.of(0, 1, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> TryCircuitBreaker.of(0.5, 0, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> TryCircuitBreaker.of(0.5, 1, Duration.ofSeconds(1), Duration.ZERO));
+    }
+}
@@ -0,0 +1,68 @@
+package com.acepero13.functionalaids.try2;
+
+import com.acepero13.functionalaids.tuple.Tuple2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryCollectorsTest {
+
+    private Try<Integer> divide(int i) {
+        return Try.of(() -> 100 / i);
+    }
+
+    @Test
+    void partitionSplitsSuccessesFromFailures() {
+        Tuple2<List<Integer>, List<Throwable>> actual = Arrays.asList(1, 0, 2, 0, 4).stream()
+                .map(this::divide)
+                .collect(TryCollectors.partition());
+
+        assertEquals(Arrays.asList(100, 50, 25), actual.first());
+        assertEquals(2, actual.second().size());
+        assertTrue(actual.second().get(0) instanceof ArithmeticException);
+    }
+
+    @Test
+    void partitionOnParallelStreamKeepsOrder() {
+        Tuple2<List<Integer>, List<Throwable>> actual = IntStream.range(0, 10_000).parallel()
+                .boxed()
+                .map(i -> i % 3 == 0 ? Try.<Integer>failure(new Exception(String.valueOf(i))) : Try.success(i))
+                .collect(TryCollectors.partition());
+
+        List<Integer> expected = IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().collect(Collectors.toList());
+        assertEquals(expected, actual.first());
+        assertEquals(3334, actual.second().size());
+        assertEquals("0", actual.second().get(0).getMessage());
+    }
+
+    @Test
+    void sequenceOfSuccesses() {
+        Try<List<Integer>> actual = Arrays.asList(1, 2, 4).stream()
+                .map(this::divide)
+                .collect(TryCollectors.sequence());
+        assertEquals(Try.success(Arrays.asList(100, 50, 25)), actual);
+    }
+
+    @Test
+    void sequenceOfNothingIsEmptyList() {
+        Try<List<Integer>> actual = Collections.<Try<Integer>>emptyList().stream().collect(TryCollectors.sequence());
+        assertEquals(Try.success(Collections.emptyList()), actual);
+    }
+
+    @Test
+    void sequenceReturnsFirstFailureInEncounterOrder() {
+        Try<List<Integer>> actual = IntStream.range(0, 10_000).parallel()
+                .boxed()
+                .map(i -> i >= 5_000 ? Try.<Integer>failure(new Exception(String.valueOf(i))) : Try.success(i))
+                .collect(TryCollectors.sequence());
+
+        assertEquals("5000", actual.fold(Throwable::getMessage, l -> "success"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryFutureTest {
+
+    private final Executor direct = Runnable::run;
+
+    @Test
+    void runsComputationInExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            Try<Integer> actual = Try.async(() -> {
+                thread.set(Thread.currentThread());
+                return 1;
+            }, executor).await();
+
+            assertEquals(Try.success(1), actual);
+            assertNotSame(Thread.currentThread(), thread.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void doesNotBlockUntilAwaited() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            TryFuture<Integer> future = TryFuture.of(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return 1;
+            }, executor).map(i -> i + 1);
+
+            assertFalse(future.isDone());
+            release.countDown();
+            assertEquals(Try.success(2), future.await());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void capturesExceptionAsFailure() {
+        //noinspection divzero ,NumericOverflow (It is intended this way, to test runtime exceptions)
+        Try<Integer> actual = TryFuture.of(() -> 10 / 0, direct).await();
+        assertTrue(actual.isFailure());
+    }
+
+    @Test
+    void mapperExceptionBecomesFailure() {
+        IllegalStateException error = new IllegalStateException("error");
+        Try<Integer> actual = TryFuture.completed(Try.success(1))
+                .<Integer>map(i -> {
+                    throw error;
+                })
+                .await();
+        assertSame(error, actual.fold(t -> t, i -> null));
+    }
+
+    @Test
+    void flatMapChainsFutures() {
+        Try<Integer> actual = TryFuture.of(() -> 1, direct)
+                .flatMap(i -> TryFuture.of(() -> i + 1, direct))
+                .await();
+        assertEquals(Try.success(2), actual);
+    }
+
+    @Test
+    void flatMapOnFailureKeepsFailure() {
+        Try<Integer> failure = Try.failure(new Exception("error"));
+        Try<Integer> actual = TryFuture.completed(failure)
+                .flatMap(i -> TryFuture.completed(Try.success(i + 1)))
+                .await();
+        assertSame(failure, actual);
+    }
+
+    @Test
+    void flatMapReturningNullBecomesFailure() {
+        Try<Integer> actual = TryFuture.completed(Try.success(1))
+                .<Integer>flatMap(i -> null)
+                .await();
+        assertTrue(actual.fold(t -> t instanceof NullPointerException, i -> false));
+    }
+
+    @Test
+    void orElseContinuesWithFallbackOnFailure() {
+        Try<Integer> actual = TryFuture.<Integer>completed(Try.failure(new Exception("error")))
+                .orElse(() -> TryFuture.completed(Try.success(2)))
+                .await();
+        assertEquals(Try.success(2), actual);
+    }
+
+    @Test
+    void filterConvertsToFailure() {
+        Try<Integer> actual = TryFuture.completed(Try.success(1)).filter(i -> i > 1).await();
+        assertTrue(actual.isFailure());
+    }
+
+    @Test
+    void foldAppliesFunctionOnCompletion() {
+        Integer actual = TryFuture.completed(Try.success(1))
+                .fold(t -> -1, i -> i + 1)
+                .toCompletableFuture()
+                .join();
+        assertEquals(2, actual);
+    }
+
+    @Test
+    void convertsFailedStageIntoFailure() {
+        CompletableFuture<Integer> stage = new CompletableFuture<>();
+        IllegalStateException error = new IllegalStateException("error");
+        TryFuture<Integer> future = TryFuture.fromStage(stage.thenApply(i -> i + 1));
+
+        stage.completeExceptionally(error);
+
+        assertSame(error, future.await().fold(t -> t, i -> null));
+    }
+
+    @Test
+    void completingTheReturnedStageDoesNotChangeTheOutcome() {
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        TryFuture<Integer> future = TryFuture.fromStage(source);
+
+        future.toCompletionStage().toCompletableFuture().complete(Try.success(2));
+        source.complete(1);
+
+        assertEquals(Try.success(1), future.await());
+        assertEquals(Try.success(1), future.toCompletionStage().toCompletableFuture().join());
+    }
+
+    @Test
+    void onCompleteReceivesOutcome() {
+        AtomicReference<Try<Integer>> outcome = new AtomicReference<>();
+        TryFuture.of(() -> 1, direct).onComplete(outcome::set);
+        assertEquals(Try.success(1), outcome.get());
+    }
+}
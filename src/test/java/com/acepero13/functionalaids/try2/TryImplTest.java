@@ -5,12 +5,14 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -73,6 +75,28 @@ class TryImplTest {
         assertThrows(Exception.class, () -> one.filter(i -> i > 1).getSilent());
     }
 
+    @Test
+    void filterFailsWithSharedStacklessException() {
+        Throwable first = one.filter(i -> i > 1).fold(t -> t, i -> null);
+        Throwable second = Try.success(2).filter(i -> i > 2).fold(t -> t, i -> null);
+
+        assertTrue(first instanceof PredicateFailedException);
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void filterWithCustomErrorIfPredicateDoesNotHold() {
+        IllegalArgumentException error = new IllegalArgumentException("not positive");
+        Throwable actual = one.filter(i -> i < 0, () -> error).fold(t -> t, i -> null);
+        assertSame(error, actual);
+    }
+
+    @Test
+    void filterWithCustomErrorDoesNotRequestErrorIfPredicateHolds() {
+        assertEquals(one, one.filter(i -> i == 1, () -> fail("Should not request the error")));
+    }
+
     @Test
     void getDefaultFromAFailure() {
         assertEquals(10, err.getOrElse(() -> 10));
@@ -224,6 +248,69 @@ class TryImplTest {
         assertTrue(Try.of(() -> 1 / 2).isSuccess());
     }
 
+    @Test
+    void ofKeepsTheRaisedException() {
+        IllegalStateException error = new IllegalStateException("error");
+        Throwable actual = Try.of(() -> {
+            throw error;
+        }).fold(t -> t, i -> null);
+        assertSame(error, actual);
+    }
+
+    @Test
+    void failureHoldsTheGivenThrowable() {
+        Exception error = new Exception("error");
+        Try<Integer> failure = Try.failure(error);
+        assertSame(error, failure.fold(t -> t, i -> null));
+        assertThrows(Exception.class, failure::get);
+    }
+
+    @Test
+    void deferredErrorIsComputedOnlyOnce() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> failure = Try.failure(() -> {
+            calls.incrementAndGet();
+            return new Exception("error");
+        });
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> failure.ifFailure(t -> assertNotNull(t)));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        failure.fold(t -> t, i -> null);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void commonSuccessesAreCanonical() {
+        assertSame(Try.success(true), Try.success(true));
+        assertSame(Try.success(false), Try.success(false));
+        assertSame(Try.success(null), Try.success(null));
+        assertSame(Try.success(""), Try.success(""));
+        assertSame(Try.success(127), Try.success(127));
+        assertSame(Try.success(-128), one.map(i -> -128));
+        assertSame(Try.unit(), Try.success(null));
+    }
+
+    @Test
+    void cachedSuccessesBehaveLikeAnyOther() {
+        assertEquals(Try.success(1000).map(i -> i / 1000), one);
+        assertEquals(Try.success(1).hashCode(), Try.success(1000).map(i -> i / 1000).hashCode());
+        assertEquals(Try.success(null), Try.success("a").map(s -> null));
+        assertTrue(Try.unit().isSuccess());
+    }
+
+    @Test
+    void unitReturnsEmptyOptional() {
+        assertEquals(Optional.empty(), Try.unit().toOptional());
+        assertEquals(Optional.empty(), Try.success("a").map(s -> null).toOptional());
+    }
+
     @Test
     void failureReturnsEmptyOptional() {
         assertEquals(Optional.empty(), err.toOptional());
@@ -0,0 +1,101 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryMetricsTest {
+
+    private void withMetrics(Runnable test) {
+        TryMetrics.enable();
+        try {
+            test.run();
+        } finally {
+            TryMetrics.disable();
+        }
+    }
+
+    @Test
+    void disabledByDefaultAndDoesNotRecord() {
+        assertFalse(TryMetrics.isEnabled());
+
+        Try<Integer> actual = Try.of("metrics-disabled", () -> 1);
+
+        assertEquals(Try.success(1), actual);
+        assertEquals(0, TryMetrics.site("metrics-disabled").successes());
+    }
+
+    @Test
+    void recordsSuccessesAndFailures() {
+        withMetrics(() -> {
+            Try.of("metrics-parse", () -> Integer.parseInt("1"));
+            Try.of("metrics-parse", () -> Integer.parseInt("2"));
+            Try<Integer> failure = Try.of("metrics-parse", () -> Integer.parseInt("x"));
+
+            TryMetrics.Site site = TryMetrics.site("metrics-parse");
+            assertTrue(failure.isFailure());
+            assertEquals(2, site.successes());
+            assertEquals(1, site.failures());
+            assertEquals(1, site.failures(NumberFormatException.class));
+            assertEquals(0, site.failures(IllegalStateException.class));
+        });
+    }
+
+    @Test
+    void visitsFailuresPerExceptionClass() {
+        withMetrics(() -> {
+            TryMetrics.Site site = TryMetrics.site("metrics-types");
+            site.of(() -> Integer.parseInt("x"));
+            site.of(() -> {
+                throw new IllegalStateException("error");
+            });
+            site.of(() -> {
+                throw new IllegalStateException("error");
+            });
+
+            Map<Class<? extends Throwable>, Long> actual = new HashMap<>();
+            site.forEachFailureType(actual::put);
+
+            assertEquals(2, actual.size());
+            assertEquals(1L, actual.get(NumberFormatException.class));
+            assertEquals(2L, actual.get(IllegalStateException.class));
+        });
+    }
+
+    @Test
+    void visitsEverySite() {
+        withMetrics(() -> {
+            Try.of("metrics-visited", () -> 1);
+            AtomicBoolean visited = new AtomicBoolean();
+
+            TryMetrics.forEach(site -> {
+                if (site.name().equals("metrics-visited")) {
+                    visited.set(site.successes() == 1);
+                }
+            });
+
+            assertTrue(visited.get());
+        });
+    }
+
+    @Test
+    void resetSetsCountersBackToZero() {
+        withMetrics(() -> {
+            TryMetrics.Site site = TryMetrics.site("metrics-reset");
+            site.of(() -> 1);
+            site.of(() -> Integer.parseInt("x"));
+
+            site.reset();
+
+            assertEquals(0, site.successes());
+            assertEquals(0, site.failures());
+            assertEquals(0, site.failures(NumberFormatException.class));
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class TryPipelineTest {
+
+    private final TryPipeline<String, Integer> parse = TryPipeline.<String>start()
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .flatMap(s -> Try.of(() -> Integer.parseInt(s)))
+            .map(i -> i * 10);
+
+    @Test
+    void emptyPipelineWrapsInput() {
+        assertEquals(Try.success(1), TryPipeline.<Integer>start().apply(1));
+    }
+
+    @Test
+    void appliesAllStages() {
+        assertEquals(Try.success(420), parse.apply(" 42 "));
+    }
+
+    @Test
+    void sameOutcomeAsChainedCalls() {
+        Try<Integer> chained = Try.success(" 42 ")
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .flatMap(s -> Try.of(() -> Integer.parseInt(s)))
+                .map(i -> i * 10);
+        assertEquals(chained, parse.apply(" 42 "));
+    }
+
+    @Test
+    void filterShortCircuits() {
+        TryPipeline<Integer, Integer> pipeline = TryPipeline.<Integer>start()
+                .filter(i -> i > 1)
+                .map(i -> fail("Should not run after a failed stage"));
+
+        Try<Integer> actual = pipeline.apply(1);
+
+        assertTrue(actual.fold(t -> t instanceof PredicateFailedException, i -> false));
+    }
+
+    @Test
+    void filterWithCustomError() {
+        IllegalArgumentException error = new IllegalArgumentException("empty");
+        Try<String> actual = TryPipeline.<String>start().filter(s -> !s.isEmpty(), () -> error).apply("");
+        assertSame(error, actual.fold(t -> t, s -> null));
+    }
+
+    @Test
+    void flatMapReturnsFailureOfStage() {
+        Try<Integer> actual = parse.apply("forty-two");
+        assertTrue(actual.fold(t -> t instanceof NumberFormatException, i -> false));
+    }
+
+    @Test
+    void applyTryKeepsFailure() {
+        Try<String> failure = Try.failure(new Exception("error"));
+        assertSame(failure, parse.applyTry(failure));
+        assertEquals(Try.success(10), parse.applyTry(Try.success("1")));
+    }
+
+    @Test
+    void stagesAreNotShared() {
+        TryPipeline<Integer, Integer> base = TryPipeline.<Integer>start().map(i -> i + 1);
+        TryPipeline<Integer, Integer> doubled = base.map(i -> i * 2);
+        TryPipeline<Integer, Integer> negated = base.map(i -> -i);
+
+        assertEquals(Try.success(4), doubled.apply(1));
+        assertEquals(Try.success(-2), negated.apply(1));
+    }
+
+    @Test
+    void worksWithStreams() {
+        List<Integer> actual = Arrays.asList("1", " ", "2").stream()
+                .map(parse.toFunction())
+                .map(t -> t.getOrElse(() -> 0))
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(10, 0, 20), actual);
+    }
+}
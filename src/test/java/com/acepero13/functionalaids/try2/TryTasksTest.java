@@ -0,0 +1,137 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryTasksTest {
+
+    private final IllegalStateException error = new IllegalStateException("error");
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private Supplier<Integer> blockUntilInterrupted(CountDownLatch interrupted) {
+        return () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return -1;
+        };
+    }
+
+    private Integer fail() {
+        throw error;
+    }
+
+    private <T> Supplier<T> afterBlockingTaskStarted(Supplier<T> task) {
+        return () -> {
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return task.get();
+        };
+    }
+
+    @Test
+    void allCollectsValuesInOrder() {
+        List<Supplier<Integer>> tasks = Arrays.asList(() -> 1, () -> 2, () -> 3);
+        assertEquals(Try.success(Arrays.asList(1, 2, 3)), Try.all(tasks));
+    }
+
+    @Test
+    void allOfNothingIsAnEmptyList() {
+        assertEquals(Try.success(Collections.emptyList()), Try.all(Collections.<Supplier<Integer>>emptyList()));
+    }
+
+    @Test
+    void allFailsAndCancelsRemainingTasks() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Supplier<Integer>> tasks = Arrays.asList(blockUntilInterrupted(interrupted), afterBlockingTaskStarted(this::fail));
+
+        Try<List<Integer>> actual = Try.all(tasks);
+
+        assertSame(error, actual.fold(t -> t, l -> null));
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void anyReturnsFirstSuccessAndCancelsRemainingTasks() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Supplier<Integer>> tasks = Arrays.asList(blockUntilInterrupted(interrupted), this::fail, afterBlockingTaskStarted(() -> 3));
+
+        assertEquals(Try.success(3), Try.any(tasks));
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void anyFailsWhenEveryTaskFails() {
+        List<Supplier<Integer>> tasks = Arrays.asList(this::fail, this::fail);
+        assertSame(error, Try.any(tasks).fold(t -> t, i -> null));
+    }
+
+    @Test
+    void anyOfNothingFails() {
+        Try<Integer> actual = Try.any(Collections.<Supplier<Integer>>emptyList());
+        assertTrue(actual.fold(t -> t instanceof NoSuchElementException, i -> false));
+    }
+
+    @Test
+    void runsInTheGivenExecutor() {
+        List<Supplier<Integer>> tasks = Arrays.asList(() -> 1, () -> 2);
+        assertEquals(Try.success(Arrays.asList(1, 2)), Try.all(tasks, Runnable::run));
+    }
+
+    @Test
+    void hedgeDoesNotFireWhenPrimaryIsFast() {
+        HedgeStats stats = HedgeStats.global();
+        long fired = stats.fired();
+
+        Try<Integer> actual = Try.hedged(() -> 1, () -> 2, Duration.ofSeconds(10));
+
+        assertEquals(Try.success(1), actual);
+        assertEquals(fired, stats.fired());
+    }
+
+    @Test
+    void hedgeFiresAndWinsWhenPrimaryIsSlow() throws InterruptedException {
+        HedgeStats stats = HedgeStats.global();
+        long fired = stats.fired();
+        long won = stats.won();
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Try<Integer> actual = Try.hedged(blockUntilInterrupted(interrupted), afterBlockingTaskStarted(() -> 2),
+                Duration.ofMillis(10));
+
+        assertEquals(Try.success(2), actual);
+        assertEquals(fired + 1, stats.fired());
+        assertEquals(won + 1, stats.won());
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void hedgeStartsFallbackRightAwayWhenPrimaryFails() {
+        Try<Integer> actual = Try.hedged(this::fail, () -> 2, Duration.ofSeconds(10));
+        assertEquals(Try.success(2), actual);
+    }
+
+    @Test
+    void hedgeFailsWhenBothFail() {
+        Try<Integer> actual = Try.hedged(this::fail, this::fail, Duration.ofMillis(10));
+        assertSame(error, actual.fold(t -> t, i -> null));
+    }
+}
@@ -0,0 +1,78 @@
+package com.acepero13.functionalaids.try2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryTraverseTest {
+
+    private final List<Integer> numbers = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void traverseCollectsValuesInOrder() {
+        Try<List<Integer>> actual = Try.traverse(Arrays.asList(1, 2, 3), i -> Try.success(i * 2));
+        assertEquals(Try.success(Arrays.asList(2, 4, 6)), actual);
+    }
+
+    @Test
+    void traverseOfNothingIsEmptyList() {
+        assertEquals(Try.success(Collections.emptyList()), Try.traverse(Collections.<Integer>emptyList(), Try::success));
+    }
+
+    @Test
+    void traverseStopsAtFirstFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Try<Integer> failure = Try.failure(new Exception("error"));
+
+        Try<List<Integer>> actual = Try.traverse(Arrays.asList(1, 2, 3), i -> {
+            calls.incrementAndGet();
+            return i == 2 ? failure : Try.success(i);
+        });
+
+        assertSame(failure, actual);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void parallelTraverseCollectsValuesInOrder() {
+        Try<List<Integer>> actual = Try.parallelTraverse(numbers, i -> Try.success(i * 2));
+
+        List<Integer> expected = numbers.stream().map(i -> i * 2).collect(Collectors.toList());
+        assertEquals(Try.success(expected), actual);
+    }
+
+    @Test
+    void parallelTraverseOfNonRandomAccessCollection() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Try<List<Integer>> actual = Try.parallelTraverse(new LinkedHashSet<>(numbers), Try::success, pool);
+            assertEquals(Try.success(numbers), actual);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelTraverseStopsSchedulingAfterFailure() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Try<List<Integer>> actual = Try.parallelTraverse(numbers, i -> {
+            calls.incrementAndGet();
+            return Try.failure(new Exception(String.valueOf(i)));
+        });
+
+        assertTrue(actual.isFailure());
+        assertTrue(calls.get() < numbers.size());
+    }
+}
@@ -0,0 +1,137 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentPairKeyedMapTest {
+
+    private static final class SameHash {
+        private final int id;
+        private final boolean strict;
+
+        private SameHash(int id, boolean strict) {
+            this.id = id;
+            this.strict = strict;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (strict && o != this) {
+                throw new ClassCastException("not comparable");
+            }
+            return o instanceof SameHash && ((SameHash) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    void supportsTheBasicOperations() {
+        ConcurrentPairKeyedMap<String, Integer, String> map = ConcurrentPairKeyedMap.create();
+
+        assertNull(map.put("a", 1, "a1"));
+        assertEquals("a1", map.get("a", 1));
+        assertEquals("a1", map.computeIfAbsent("a", 1, (a, b) -> "other"));
+        assertEquals("b2", map.computeIfAbsent("b", 2, (a, b) -> a + b));
+        assertEquals(2, map.size());
+        assertTrue(map.keys().contains(Tuple2.of("b", 2)));
+        assertEquals("a1", map.remove("a", 1));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void keysSharingAHashAreComparedWithEquals() {
+        ConcurrentPairKeyedMap<SameHash, Integer, String> map = ConcurrentPairKeyedMap.create(0, 1);
+        map.put(new SameHash(1, false), 1, "first");
+        map.put(new SameHash(2, false), 1, "second");
+
+        assertEquals("first", map.get(new SameHash(1, false), 1));
+        assertEquals("second", map.get(new SameHash(2, false), 1));
+        assertNull(map.get(new SameHash(3, false), 1));
+    }
+
+    @Test
+    void exceptionsFromEqualsAreNotHidden() {
+        ConcurrentPairKeyedMap<SameHash, Integer, String> map = ConcurrentPairKeyedMap.create(0, 1);
+        map.put(new SameHash(1, false), 1, "first");
+
+        assertThrows(ClassCastException.class, () -> map.get(new SameHash(2, true), 1));
+    }
+
+    @Test
+    void concurrentWritersAndReadersSeeConsistentValues() throws Exception {
+        ConcurrentPairKeyedMap<Integer, Integer, Integer> map = ConcurrentPairKeyedMap.create(0, 4);
+        int threads = 8;
+        int keys = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = thread; i < keys; i += threads) {
+                        map.put(i, -i, i);
+                        Integer value = map.get(i, -i);
+                        if (value == null || value != i) {
+                            throw new AssertionError("Lost value for " + i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(keys, map.size());
+        for (int i = 0; i < keys; i++) {
+            assertEquals(Integer.valueOf(i), map.get(i, -i));
+        }
+    }
+
+    @Test
+    void computeIfAbsentComputesOncePerKey() throws Exception {
+        ConcurrentPairKeyedMap<Integer, Integer, Integer> map = ConcurrentPairKeyedMap.create();
+        AtomicInteger computations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        map.computeIfAbsent(i, i, (a, b) -> {
+                            computations.incrementAndGet();
+                            return a + b;
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1000, computations.get());
+    }
+}
@@ -0,0 +1,117 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PairKeyedMapTest {
+
+    private final PairKeyedMap<String, Integer, String> map = PairKeyedMap.create();
+
+    @Test
+    void getsWhatWasPut() {
+        assertNull(map.put("a", 1, "a1"));
+        map.put("a", 2, "a2");
+        map.put("b", 1, "b1");
+
+        assertEquals("a1", map.get("a", 1));
+        assertEquals("a2", map.get("a", 2));
+        assertEquals("b1", map.get("b", 1));
+        assertNull(map.get("b", 2));
+        assertEquals("none", map.getOrDefault("b", 2, "none"));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void putReplacesAndReturnsThePreviousValue() {
+        map.put("a", 1, "first");
+
+        assertEquals("first", map.put("a", 1, "second"));
+        assertEquals("second", map.get("a", 1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void removeDeletesTheEntry() {
+        map.put("a", 1, "a1");
+
+        assertEquals("a1", map.remove("a", 1));
+        assertNull(map.remove("a", 1));
+        assertFalse(map.containsKey("a", 1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void computeIfAbsentOnlyComputesMissingValues() {
+        assertEquals("a1", map.computeIfAbsent("a", 1, (a, b) -> a + b));
+        assertEquals("a1", map.computeIfAbsent("a", 1, (a, b) -> "other"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void nullKeysAndValuesAreRejected() {
+        assertThrows(NullPointerException.class, () -> map.put(null, 1, "v"));
+        assertThrows(NullPointerException.class, () -> map.put("a", null, "v"));
+        assertThrows(NullPointerException.class, () -> map.put("a", 1, null));
+    }
+
+    @Test
+    void keysAreIteratedAsTuples() {
+        map.put("a", 1, "a1");
+        map.put("b", 2, "b2");
+
+        Set<Tuple2<String, Integer>> keys = new HashSet<>();
+        map.keys().forEach(keys::add);
+        Map<Tuple2<String, Integer>, String> entries = new HashMap<>();
+        map.forEach((a, b, value) -> entries.put(Tuple2.of(a, b), value));
+
+        assertEquals(2, keys.size());
+        assertTrue(keys.contains(Tuple2.of("a", 1)));
+        assertEquals("b2", entries.get(Tuple2.of("b", 2)));
+    }
+
+    @Test
+    void behavesLikeAHashMapUnderRandomOperations() {
+        PairKeyedMap<Integer, Integer, Integer> actual = PairKeyedMap.create();
+        Map<Tuple2<Integer, Integer>, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            int a = random.nextInt(64);
+            int b = random.nextInt(64);
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                assertEquals(expected.put(Tuple2.of(a, b), i), actual.put(a, b, i));
+            } else if (operation == 1) {
+                assertEquals(expected.remove(Tuple2.of(a, b)), actual.remove(a, b));
+            } else {
+                assertEquals(expected.get(Tuple2.of(a, b)), actual.get(a, b));
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        expected.forEach((key, value) -> assertEquals(value, actual.get(key.first(), key.second())));
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        for (int i = 0; i < 100; i++) {
+            map.put("k", i, "v" + i);
+        }
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertNull(map.get("k", 1));
+    }
+}
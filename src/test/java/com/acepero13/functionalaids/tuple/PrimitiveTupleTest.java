@@ -0,0 +1,115 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrimitiveTupleTest {
+
+    @Test
+    void intIntTupleHoldsBothElements() {
+        IntIntTuple tuple = IntIntTuple.of(1, 2);
+
+        assertEquals(1, tuple.first());
+        assertEquals(2, tuple.second());
+        assertEquals(IntIntTuple.of(1, 2), tuple);
+        assertNotEquals(IntIntTuple.of(2, 1), tuple);
+        assertEquals("(1, 2)", tuple.toString());
+    }
+
+    @Test
+    void everyTupleHoldsItsElements() {
+        assertEquals(Tuple2.of(1, 2), Tuple2.of(IntIntTuple.of(1, 2).first(), IntIntTuple.of(1, 2).second()));
+        assertEquals(Tuple2.of(1, 2L), Tuple2.of(IntLongTuple.of(1, 2L).first(), IntLongTuple.of(1, 2L).second()));
+        assertEquals(Tuple2.of(1L, 2L), Tuple2.of(LongLongTuple.of(1L, 2L).first(), LongLongTuple.of(1L, 2L).second()));
+        assertEquals(Tuple2.of(1L, 2.5),
+                Tuple2.of(LongDoubleTuple.of(1L, 2.5).first(), LongDoubleTuple.of(1L, 2.5).second()));
+        assertEquals(Tuple2.of("a", 2), Tuple2.of(ObjIntTuple.of("a", 2).first(), ObjIntTuple.of("a", 2).second()));
+        assertEquals(Tuple2.of("a", 2L),
+                Tuple2.of(ObjLongTuple.of("a", 2L).first(), ObjLongTuple.of("a", 2L).second()));
+        assertEquals(Tuple2.of("a", 2.5),
+                Tuple2.of(ObjDoubleTuple.of("a", 2.5).first(), ObjDoubleTuple.of("a", 2.5).second()));
+    }
+
+    @Test
+    void everyTupleBehavesLikeItsBoxedTuple2() {
+        assertBehavesLike(Tuple2.of(1, 2), IntIntTuple.of(1, 2), IntIntTuple.of(2, 1), IntIntTuple.of(1, 2).boxed());
+        assertBehavesLike(Tuple2.of(1, 2L), IntLongTuple.of(1, 2L), IntLongTuple.of(1, 3L),
+                IntLongTuple.of(1, 2L).boxed());
+        assertBehavesLike(Tuple2.of(1L, 2L), LongLongTuple.of(1L, 2L), LongLongTuple.of(2L, 2L),
+                LongLongTuple.of(1L, 2L).boxed());
+        assertBehavesLike(Tuple2.of(1L, 2.5), LongDoubleTuple.of(1L, 2.5), LongDoubleTuple.of(1L, 2.0),
+                LongDoubleTuple.of(1L, 2.5).boxed());
+        assertBehavesLike(Tuple2.of("a", 2), ObjIntTuple.of("a", 2), ObjIntTuple.of("b", 2),
+                ObjIntTuple.of("a", 2).boxed());
+        assertBehavesLike(Tuple2.of("a", 2L), ObjLongTuple.of("a", 2L), ObjLongTuple.of("a", 3L),
+                ObjLongTuple.of("a", 2L).boxed());
+        assertBehavesLike(Tuple2.of("a", 2.5), ObjDoubleTuple.of("a", 2.5), ObjDoubleTuple.of(null, 2.5),
+                ObjDoubleTuple.of("a", 2.5).boxed());
+    }
+
+    private static void assertBehavesLike(Tuple2<?, ?> expected, Object tuple, Object different, Tuple2<?, ?> boxed) {
+        assertEquals(expected, boxed);
+        assertEquals(expected.hashCode(), tuple.hashCode());
+        assertEquals(expected.toString(), tuple.toString());
+        assertNotEquals(tuple, different);
+        assertNotEquals(tuple, boxed);
+    }
+
+    @Test
+    void everyTupleIsUnboxedFromATuple2() {
+        assertEquals(IntIntTuple.of(1, 2), IntIntTuple.from(Tuple2.of(1, 2)));
+        assertEquals(IntLongTuple.of(1, 2L), IntLongTuple.from(Tuple2.of(1, 2L)));
+        assertEquals(LongLongTuple.of(1L, 2L), LongLongTuple.from(Tuple2.of(1L, 2L)));
+        assertEquals(LongDoubleTuple.of(1L, 2.5), LongDoubleTuple.from(Tuple2.of(1L, 2.5)));
+        assertEquals(ObjIntTuple.of("a", 2), ObjIntTuple.from(Tuple2.of("a", 2)));
+        assertEquals(ObjLongTuple.of("a", 2L), ObjLongTuple.from(Tuple2.of("a", 2L)));
+        assertEquals(ObjDoubleTuple.of("a", 2.5), ObjDoubleTuple.from(Tuple2.of("a", 2.5)));
+        assertThrows(NullPointerException.class, () -> LongDoubleTuple.from(Tuple2.of(1L, null)));
+        assertThrows(NullPointerException.class, () -> ObjIntTuple.from(Tuple2.of("a", null)));
+    }
+
+    @Test
+    void applyPassesUnboxedElements() {
+        AtomicLong sum = new AtomicLong();
+
+        IntLongTuple.of(1, 2L).apply((first, second) -> sum.addAndGet(first + second));
+        LongLongTuple.of(3L, 4L).apply((first, second) -> sum.addAndGet(first + second));
+        ObjLongTuple.of("a", 5L).apply((first, second) -> sum.addAndGet(first.length() + second));
+        IntIntTuple.of(6, 7).apply((first, second) -> sum.addAndGet(first + second));
+        LongDoubleTuple.of(8L, 9.0).apply((first, second) -> sum.addAndGet(first + (long) second));
+        ObjIntTuple.of("bc", 10).apply((first, second) -> sum.addAndGet(first.length() + second));
+        ObjDoubleTuple.of("def", 11.0).apply((first, second) -> sum.addAndGet(first.length() + (long) second));
+
+        assertEquals(72, sum.get());
+    }
+
+    @Test
+    void boxedTuplesAreEqualAndHashTheSame() {
+        assertEquals(Tuple2.of(1, 2L), IntLongTuple.of(1, 2L).boxed());
+        assertEquals(Tuple2.of(1L, 2.5), LongDoubleTuple.of(1L, 2.5).boxed());
+        assertEquals(Tuple2.of("a", 3), ObjIntTuple.of("a", 3).boxed());
+        assertEquals(Tuple2.of(1, 2L).hashCode(), IntLongTuple.of(1, 2L).hashCode());
+        assertEquals(Tuple2.of(1L, 2.5).hashCode(), LongDoubleTuple.of(1L, 2.5).hashCode());
+        assertEquals(Tuple2.of("a", 1.5).hashCode(), ObjDoubleTuple.of("a", 1.5).hashCode());
+    }
+
+    @Test
+    void fromUnboxesATuple2() {
+        assertEquals(LongLongTuple.of(1L, 2L), LongLongTuple.from(Tuple2.of(1L, 2L)));
+        assertEquals(ObjDoubleTuple.of(null, 2.0), ObjDoubleTuple.from(Tuple2.of(null, 2.0)));
+        assertThrows(NullPointerException.class, () -> IntIntTuple.from(Tuple2.of(null, 1)));
+    }
+
+    @Test
+    void doublesAreComparedLikeDoubleEquals() {
+        assertEquals(LongDoubleTuple.of(1L, Double.NaN), LongDoubleTuple.of(1L, Double.NaN));
+        assertNotEquals(LongDoubleTuple.of(1L, 0.0), LongDoubleTuple.of(1L, -0.0));
+        assertEquals(ObjDoubleTuple.of("a", Double.NaN), ObjDoubleTuple.of("a", Double.NaN));
+        assertNotEquals(ObjDoubleTuple.of("a", 0.0), ObjDoubleTuple.of("a", -0.0));
+    }
+}
@@ -0,0 +1,126 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Tuple2ArrayTest {
+
+    @Test
+    void storesPairsInOrder() {
+        Tuple2Array<String, Integer> array = Tuple2Array.create();
+        array.add("a", 1);
+        array.add(Tuple2.of("b", 2));
+
+        assertEquals(2, array.size());
+        assertEquals("b", array.first(1));
+        assertEquals(Integer.valueOf(1), array.second(0));
+        assertEquals(Arrays.asList(Tuple2.of("a", 1), Tuple2.of("b", 2)), array);
+        assertThrows(IndexOutOfBoundsException.class, () -> array.first(2));
+    }
+
+    @Test
+    void growsAndRemoves() {
+        Tuple2Array<Integer, Integer> array = Tuple2Array.create(1);
+        for (int i = 0; i < 100; i++) {
+            array.add(i, -i);
+        }
+
+        assertEquals(Tuple2.of(10, -10), array.remove(10));
+        assertEquals(99, array.size());
+        assertEquals(Integer.valueOf(11), array.first(10));
+        assertEquals(Tuple2.of(11, -11), array.set(10, Tuple2.of(0, 0)));
+        assertEquals(Tuple2.of(0, 0), array.get(10));
+    }
+
+    @Test
+    void forEachPassesBothElements() {
+        Tuple2Array<String, Integer> array = Tuple2Array.from(Arrays.asList(Tuple2.of("a", 1), Tuple2.of("bb", 2)));
+        List<String> seen = new ArrayList<>();
+
+        array.forEach((first, second) -> seen.add(first + second));
+
+        assertEquals(Arrays.asList("a1", "bb2"), seen);
+    }
+
+    @Test
+    void sortByFirstIsStable() {
+        Random random = new Random(7);
+        List<Tuple2<Integer, Integer>> expected = new ArrayList<>();
+        Tuple2Array<Integer, Integer> array = Tuple2Array.create();
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt(100);
+            expected.add(Tuple2.of(key, i));
+            array.add(key, i);
+        }
+
+        array.sortByFirst(Comparator.naturalOrder());
+        expected.sort(Comparator.comparing(Tuple2::first));
+
+        assertEquals(expected, array);
+    }
+
+    @Test
+    void parallelStreamsSeeEveryPairInOrder() {
+        Tuple2Array<Integer, Integer> array = Tuple2Array.create();
+        for (int i = 0; i < 100_000; i++) {
+            array.add(i, i * 2);
+        }
+
+        List<Integer> sums = array.parallelStream()
+                .map(t -> t.first() + t.second())
+                .collect(Collectors.toList());
+
+        assertEquals(IntStream.range(0, 100_000).map(i -> i * 3).boxed().collect(Collectors.toList()), sums);
+    }
+
+    @Test
+    void intIntArraySortsAndStreams() {
+        IntIntTupleArray array = IntIntTupleArray.create();
+        array.add(3, 0);
+        array.add(1, 1);
+        array.add(3, 2);
+        array.add(2, 3);
+
+        array.sortByFirst();
+
+        assertEquals(Arrays.asList(IntIntTuple.of(1, 1), IntIntTuple.of(2, 3), IntIntTuple.of(3, 0),
+                IntIntTuple.of(3, 2)), array);
+        assertEquals(9, array.parallelStream().mapToInt(IntIntTuple::first).sum());
+    }
+
+    @Test
+    void longDoubleArraySortsLargeInputs() {
+        Random random = new Random(11);
+        LongDoubleTupleArray array = LongDoubleTupleArray.create(1000);
+        for (int i = 0; i < 1000; i++) {
+            array.add(random.nextInt(50), i);
+        }
+
+        array.sortByFirst();
+
+        AtomicLong previousKey = new AtomicLong(Long.MIN_VALUE);
+        double[] previousValue = {-1};
+        array.forEach((first, second) -> {
+            if (first == previousKey.get()) {
+                assertTrue(second > previousValue[0]);
+            } else {
+                assertTrue(first > previousKey.get());
+            }
+            previousKey.set(first);
+            previousValue[0] = second;
+        });
+        assertEquals(1000, array.size());
+    }
+}
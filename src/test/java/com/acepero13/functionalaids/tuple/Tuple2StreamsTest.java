@@ -0,0 +1,179 @@
+package com.acepero13.functionalaids.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class Tuple2StreamsTest {
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * A sized spliterator over a range which splits off its first quarter, unlike lists and arrays which split in
+     * halves.
+     */
+    private static final class QuarterSplitting implements Spliterator<Integer> {
+        private int index;
+        private final int fence;
+
+        private QuarterSplitting(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Integer> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(index++);
+            return true;
+        }
+
+        @Override
+        public Spliterator<Integer> trySplit() {
+            int quarter = index + (fence - index) / 4;
+            if (quarter == index) {
+                return null;
+            }
+            Spliterator<Integer> prefix = new QuarterSplitting(index, quarter);
+            index = quarter;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    @Test
+    void zipPairsElementsByPosition() {
+        List<Tuple2<String, Integer>> actual = Tuple2Streams.zip(Stream.of("a", "b", "c"), Stream.of(1, 2, 3))
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(Tuple2.of("a", 1), Tuple2.of("b", 2), Tuple2.of("c", 3)), actual);
+    }
+
+    @Test
+    void zipStopsAtTheShorterStream() {
+        assertEquals(2, Tuple2Streams.zip(Stream.of("a", "b", "c"), Stream.of(1, 2)).count());
+        assertEquals(0, Tuple2Streams.zip(Stream.empty(), Stream.of(1, 2)).count());
+    }
+
+    @Test
+    void zipIsLazy() {
+        AtomicInteger consumed = new AtomicInteger();
+        Stream<Integer> infinite = Stream.iterate(0, i -> i + 1).peek(i -> consumed.incrementAndGet());
+
+        List<String> actual = Tuple2Streams.zipWith(infinite, Stream.of("a", "b"), (i, s) -> s + i)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("a0", "b1"), actual);
+        assertEquals(3, consumed.get());
+    }
+
+    @Test
+    void parallelZipOfSizedSourcesSplitsAndKeepsOrder() {
+        List<Integer> left = range(100_000);
+        List<Integer> right = range(100_000);
+
+        Spliterator<Tuple2<Integer, Integer>> spliterator = Tuple2Streams.zip(left.parallelStream(), right.stream())
+                .spliterator();
+        Spliterator<Tuple2<Integer, Integer>> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(50_000, prefix.getExactSizeIfKnown());
+        assertEquals(50_000, spliterator.getExactSizeIfKnown());
+        AtomicInteger expected = new AtomicInteger();
+        prefix.forEachRemaining(t -> assertEquals(Tuple2.of(expected.get(), expected.getAndIncrement()), t));
+        spliterator.forEachRemaining(t -> assertEquals(Tuple2.of(expected.get(), expected.getAndIncrement()), t));
+        assertEquals(100_000, expected.get());
+
+        List<Integer> sums = Tuple2Streams.zip(left.parallelStream(), right.stream())
+                .map(t -> t.first() + t.second())
+                .collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 100_000).map(i -> i * 2).boxed().collect(Collectors.toList()), sums);
+    }
+
+    @Test
+    void sourcesSplittingDifferentlyFallBackToSequential() {
+        Stream<Integer> quarters = StreamSupport.stream(new QuarterSplitting(0, 10_000), true);
+        Stream<Integer> halves = range(10_000).parallelStream();
+
+        List<Integer> differences = Tuple2Streams.zipWith(quarters, halves, (a, b) -> a - b)
+                .collect(Collectors.toList());
+
+        assertEquals(10_000, differences.size());
+        assertEquals(0, differences.stream().filter(d -> d != 0).count());
+    }
+
+    @Test
+    void sourcesOfDifferentSizesAreNotSplit() {
+        Spliterator<Tuple2<Integer, Integer>> spliterator = Tuple2Streams.zip(range(1000).parallelStream(),
+                range(999).parallelStream()).spliterator();
+
+        assertNull(spliterator.trySplit());
+        assertEquals(999, Tuple2Streams.zip(range(1000).parallelStream(), range(999).parallelStream()).count());
+    }
+
+    @Test
+    void unsizedSourcesAreZippedSequentially() {
+        Stream<Integer> unsized = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(range(1000).iterator(), Spliterator.ORDERED), true);
+
+        List<Tuple2<Integer, Integer>> actual = Tuple2Streams.zip(unsized, range(1000).parallelStream())
+                .collect(Collectors.toList());
+
+        assertEquals(1000, actual.size());
+        assertEquals(Tuple2.of(999, 999), actual.get(999));
+    }
+
+    @Test
+    void unzipSplitsPairsIntoTwoLists() {
+        Tuple2<List<String>, List<Integer>> actual = Tuple2Streams.unzip(
+                Stream.of(Tuple2.of("a", 1), Tuple2.of("b", 2)));
+
+        assertEquals(Arrays.asList("a", "b"), actual.first());
+        assertEquals(Arrays.asList(1, 2), actual.second());
+    }
+
+    @Test
+    void unzipCollectorKeepsOrderOnParallelStreams() {
+        Tuple2<List<Integer>, List<Integer>> actual = range(100_000).parallelStream()
+                .map(i -> Tuple2.of(i, -i))
+                .collect(Tuple2Streams.unzip());
+
+        assertEquals(range(100_000), actual.first());
+        assertEquals(Integer.valueOf(-99_999), actual.second().get(99_999));
+    }
+
+    @Test
+    void closingTheZippedStreamClosesBothSources() {
+        AtomicInteger closed = new AtomicInteger();
+
+        Tuple2Streams.zip(Stream.of(1).onClose(closed::incrementAndGet), Stream.of(2).onClose(closed::incrementAndGet))
+                .close();
+
+        assertEquals(2, closed.get());
+    }
+}
@@ -2,7 +2,17 @@ package com.acepero13.functionalaids.tuple;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class Tuple2Test {
     @Test
@@ -20,4 +30,57 @@ class Tuple2Test {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    void tuplesWithEqualElementsAreEqual() {
+        assertEquals(Tuple2.of("a", 1), Tuple2.of("a", 1));
+        assertEquals(Tuple2.of("a", 1).hashCode(), Tuple2.of("a", 1).hashCode());
+        assertEquals(Tuple2.of(null, null), Tuple2.of(null, null));
+        assertNotEquals(Tuple2.of("a", 1), Tuple2.of("a", 2));
+        assertNotEquals(Tuple2.of(1, 2), Tuple2.of(2, 1));
+    }
+
+    @Test
+    void tuplesCanBeUsedAsMapKeys() {
+        Map<Tuple2<String, Integer>, String> map = new HashMap<>();
+        map.put(Tuple2.of("a", 1), "first");
+        map.put(Tuple2.of("a", 2), "second");
+
+        assertEquals("first", map.get(Tuple2.of("a", 1)));
+        assertEquals("second", map.get(Tuple2.of("a", 2)));
+    }
+
+    @Test
+    void hashesOfSmallValuesAreSpread() {
+        Set<Integer> buckets = new HashSet<>();
+        for (int i = 0; i < 64; i++) {
+            for (int j = 0; j < 64; j++) {
+                buckets.add(Tuple2.of(i, j).hashCode() & 1023);
+            }
+        }
+
+        assertTrue(buckets.size() > 900);
+    }
+
+    @Test
+    void naturalComparatorOrdersByFirstThenSecond() {
+        List<Tuple2<String, Integer>> tuples = Arrays.asList(Tuple2.of("b", 1), Tuple2.of("a", 2), Tuple2.of("a", 1));
+
+        tuples.sort(Tuple2.comparator());
+
+        assertEquals(Arrays.asList(Tuple2.of("a", 1), Tuple2.of("a", 2), Tuple2.of("b", 1)), tuples);
+    }
+
+    @Test
+    void comparatorUsesTheGivenComparators() {
+        List<Tuple2<String, Integer>> tuples = Arrays.asList(Tuple2.of("b", 1), Tuple2.of("a", 2), Tuple2.of("a", 1));
+
+        tuples.sort(Tuple2.comparator(Comparator.<String>reverseOrder(), Comparator.<Integer>reverseOrder()));
+
+        assertEquals(Arrays.asList(Tuple2.of("b", 1), Tuple2.of("a", 2), Tuple2.of("a", 1)), tuples);
+    }
+
+    @Test
+    void toStringShowsBothElements() {
+        assertEquals("(a, 1)", Tuple2.of("a", 1).toString());
+    }
+}
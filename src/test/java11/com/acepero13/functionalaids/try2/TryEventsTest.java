@@ -0,0 +1,73 @@
+package com.acepero13.functionalaids.try2;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryEventsTest {
+
+    private List<RecordedEvent> record(Runnable computations) throws IOException {
+        Path file = Files.createTempFile("try-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TryEvaluationEvent.NAME);
+            recording.start();
+            computations.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(TryEvaluationEvent.NAME))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void notRecordingByDefault() {
+        assertFalse(TryEvents.isRecording());
+    }
+
+    @Test
+    void recordsSuccessfulEvaluation() throws IOException {
+        List<RecordedEvent> events = record(() -> Try.of("events-success", () -> 1));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("events-success", event.getString("name"));
+        assertTrue(event.getBoolean("success"));
+        assertNull(event.getClass("exceptionClass"));
+    }
+
+    @Test
+    void recordsFailedEvaluation() throws IOException {
+        List<RecordedEvent> events = record(() -> Try.of(() -> Integer.parseInt("x")));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertNull(event.getString("name"));
+        assertFalse(event.getBoolean("success"));
+        assertEquals(NumberFormatException.class.getName(), event.getClass("exceptionClass").getName());
+    }
+
+    @Test
+    void recordsLazyEvaluationWhenItHappens() throws IOException {
+        Try<Integer> lazy = Try.lazy(() -> 1);
+        assertTrue(record(() -> { }).isEmpty());
+
+        List<RecordedEvent> events = record(lazy::isSuccess);
+
+        assertEquals(1, events.size());
+    }
+}